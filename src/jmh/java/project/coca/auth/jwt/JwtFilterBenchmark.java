@@ -0,0 +1,68 @@
+package project.coca.auth.jwt;
+
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 인증 경로 벤치마크 (stateless 모드, Redis 조회 없음)
+ * - filter : 검증 캐시를 거치는 filter 전체 경로
+ * - parse : 매 요청 서명 검증 (캐시 없이 파싱만)
+ * ./gradlew jmh -PjmhIncludes=JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtFilter jwtFilter;
+    private String authorization;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(new byte[64]));
+        properties.setAccessExpirationTime(Duration.ofHours(1).toMillis());
+        properties.setRefreshExpirationTime(Duration.ofDays(1).toMillis());
+        properties.setStateless(true);
+
+        jwtTokenProvider = new JwtTokenProvider(properties);
+        // 비어있는 filter 는 Redis 를 조회하지 않으므로 연결 없는 template 으로 충분
+        StringRedisTemplate redisTemplate = new StringRedisTemplate();
+        RevokedTokens revokedTokens = new RevokedTokens(redisTemplate, jwtTokenProvider, 1000, 0.001);
+        SessionCache sessionCache = new SessionCache(null, redisTemplate,
+                Duration.ofSeconds(30), Duration.ofMinutes(5), 1000);
+        jwtFilter = new JwtFilter(jwtTokenProvider, sessionCache, revokedTokens, properties);
+
+        accessToken = jwtTokenProvider.createAccessToken("benchmark", List.of("ROLE_USER"), "benchmark-session");
+        authorization = "Bearer " + accessToken;
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member/info");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(request, response, NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object parse() {
+        return jwtTokenProvider.getClaimsIgnoringExpiration(accessToken);
+    }
+}
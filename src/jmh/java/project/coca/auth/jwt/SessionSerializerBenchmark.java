@@ -0,0 +1,50 @@
+package project.coca.auth.jwt;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 값 직렬화 벤치마크 (JSON vs binary)
+ * ./gradlew jmh -PjmhIncludes=SessionSerializerBenchmark
+ * 직렬화된 크기 비교는 SessionRedisSerializerTest 에서 확인함.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionSerializerBenchmark {
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final SessionRedisSerializer binarySerializer = new SessionRedisSerializer();
+    private UserSession session;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() {
+        session = new UserSession("benchmark-member", List.of("ROLE_USER"));
+        json = jsonSerializer.serialize(session);
+        binary = binarySerializer.serialize(session);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(session);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonSerializer.deserialize(json);
+    }
+
+    @Benchmark
+    public byte[] binarySerialize() {
+        return binarySerializer.serialize(session);
+    }
+
+    @Benchmark
+    public Object binaryDeserialize() {
+        return binarySerializer.deserialize(binary);
+    }
+}
@@ -0,0 +1,60 @@
+package project.coca;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+    /**
+     * 탈퇴 회원, 삭제 그룹 정리용 executor
+     * 정리 작업이 DB 를 과도하게 점유하지 않도록 스레드 수를 작게 제한함.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor purgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("purge-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일정 첨부파일 S3 업로드용 executor
+     * 업로드는 대부분 네트워크 대기이므로 스레드를 넉넉히 두고, 가득 차면 요청 스레드에서 직접 업로드함.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 프로필 이미지 썸네일 생성용 executor
+     * 이미지 디코딩은 CPU 와 메모리를 많이 쓰므로 스레드 수를 작게 두고, 가득 차면 작업을 거절함 (썸네일이 생길 때까지 원본 사용).
+     */
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -7,9 +7,10 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import project.coca.auth.jwt.JwtProperties;
+import project.coca.common.ratelimit.RateLimitProperties;
 
 @SpringBootApplication()
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, RateLimitProperties.class})
 public class CocaApplication {
     public static void main(String[] args) {
         SpringApplication.run(CocaApplication.class, args);
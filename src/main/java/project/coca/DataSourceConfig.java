@@ -0,0 +1,72 @@
+package project.coca;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import project.coca.common.datasource.ReplicationRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * primary / replica DataSource 설정
+ * spring.datasource.replica.url 이 설정된 경우에만 활성화되며, 없으면 기본 단일 DataSource 를 사용함.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceConfig {
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryPool(
+            @Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaPool(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryPool") DataSource primaryPool,
+                                 @Qualifier("replicaPool") DataSource replicaPool,
+                                 StringRedisTemplate redisTemplate,
+                                 @Value("${spring.datasource.replica.sticky-duration:5s}") Duration stickyDuration,
+                                 @Value("${spring.datasource.replica.sticky-check-interval:500ms}") Duration stickyCheckInterval) {
+        // primary 고정 표시는 여러 인스턴스가 Redis 로 공유, 고정이 아닌 확인 결과는 sticky-check-interval 동안 로컬에 둠
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(stickyDuration, stickyCheckInterval, redisTemplate);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                ReplicationRoutingDataSource.PRIMARY, primaryPool,
+                ReplicationRoutingDataSource.REPLICA, replicaPool));
+        routingDataSource.setDefaultTargetDataSource(primaryPool);
+        routingDataSource.afterPropertiesSet();
+        // 첫 쿼리 시점까지 커넥션 획득을 미뤄 readOnly 여부로 라우팅되도록 함
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
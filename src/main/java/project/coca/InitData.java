@@ -14,6 +14,7 @@ import project.coca.domain.tag.Interest;
 import project.coca.domain.tag.Tag;
 import project.coca.member.InterestRepository;
 import project.coca.member.MemberRepository;
+import project.coca.member.TagCatalog;
 import project.coca.member.TagRepository;
 
 import java.io.IOException;
@@ -41,6 +42,7 @@ public class InitData {
         private final MemberRepository memberRepository;
         private final InterestRepository interestRepository;
         private final PasswordEncoder passwordEncoder;
+        private final TagCatalog tagCatalog;
         private List<Member> memberList = new ArrayList<>();
         private List<CoGroup> coGroupList = new ArrayList<>();
         private List<Tag> tagList = new ArrayList<>();
@@ -95,6 +97,7 @@ public class InitData {
             initTag("취업", "부트캠프");
 
             tagList = tagRepository.findAll();
+            tagCatalog.refresh();
         }
 
         private void initTag(String field, String name) {
@@ -6,8 +6,10 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.DefaultSecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import project.coca.auth.jwt.JwtFilter;
-import project.coca.auth.jwt.JwtRepository;
+import project.coca.auth.jwt.JwtProperties;
 import project.coca.auth.jwt.JwtTokenProvider;
+import project.coca.auth.jwt.RevokedTokens;
+import project.coca.auth.jwt.SessionCache;
 
 /**
  * JwtTokenProvider과 JwtFilter를 SecurityConfig에 적용
@@ -15,11 +17,13 @@ import project.coca.auth.jwt.JwtTokenProvider;
 @RequiredArgsConstructor
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
     private final JwtTokenProvider jwtTokenProvider;
-    private final JwtRepository jwtRepository;
+    private final SessionCache sessionCache;
+    private final RevokedTokens revokedTokens;
+    private final JwtProperties jwtProperties;
 
     @Override
     public void configure(HttpSecurity http) throws Exception {
-        JwtFilter customFilter = new JwtFilter(jwtTokenProvider, jwtRepository);
+        JwtFilter customFilter = new JwtFilter(jwtTokenProvider, sessionCache, revokedTokens, jwtProperties);
         http.addFilterBefore(customFilter, UsernamePasswordAuthenticationFilter.class);
     }
 }
\ No newline at end of file
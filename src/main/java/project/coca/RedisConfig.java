@@ -1,16 +1,29 @@
 package project.coca;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import project.coca.auth.jwt.RevokedTokens;
+import project.coca.auth.jwt.SessionRedisSerializer;
+import project.coca.auth.jwt.SessionCache;
+import project.coca.friend.FriendListCache;
+
+import java.time.Duration;
 
 @Configuration
+@EnableCaching
 public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int port;
@@ -28,7 +41,8 @@ public class RedisConfig {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
 
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer()); // JSON 포맷으로 저장
+        // 세션 / refresh token 값은 binary 로 저장 (기존 JSON 항목도 읽음)
+        redisTemplate.setValueSerializer(new SessionRedisSerializer());
 
         redisTemplate.setConnectionFactory(connectionFactory);
         return redisTemplate;
@@ -40,4 +54,37 @@ public class RedisConfig {
         template.setConnectionFactory(redisConnectionFactory);
         return template;
     }
+
+    /**
+     * Redis pub/sub 수신 (JWT 세션 캐시 무효화, 폐기 토큰 전파)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        SessionCache sessionCache,
+                                                                        RevokedTokens revokedTokens) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(sessionCache, new ChannelTopic(SessionCache.INVALIDATE_CHANNEL));
+        container.addMessageListener(revokedTokens, new ChannelTopic(RevokedTokens.REVOKED_CHANNEL));
+        return container;
+    }
+
+    /**
+     * 조회 결과 캐시 (@Cacheable)
+     * 트랜잭션을 인식하므로 put / evict 는 커밋 이후에 반영됨.
+     */
+    @Bean
+    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .disableCachingNullValues()
+                .entryTtl(Duration.ofMinutes(10));
+
+        return RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withCacheConfiguration(FriendListCache.CACHE_NAME, defaults.entryTtl(Duration.ofMinutes(30)))
+                .transactionAware()
+                .build();
+    }
 }
@@ -1,6 +1,10 @@
 package project.coca;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,7 +20,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import project.coca.auth.jwt.*;
+import project.coca.auth.password.BoundedPasswordEncoder;
+import project.coca.common.ratelimit.RateLimitFilter;
+import project.coca.common.ratelimit.RateLimitProperties;
+import project.coca.common.ratelimit.RateLimiter;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 @EnableWebSecurity
@@ -25,11 +36,34 @@ public class SecurityConfig {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
-    private final JwtRepository jwtRepository;
+    private final SessionCache sessionCache;
+    private final RevokedTokens revokedTokens;
+    private final JwtProperties jwtProperties;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ObjectMapper objectMapper;
 
+    /**
+     * BCrypt 는 요청 스레드가 아닌 전용 executor(코어 수만큼)에서 수행
+     * 해시를 기다리는 요청 스레드는 최대 threads + queue-capacity 개이므로,
+     * 이 값이 tomcat 작업 스레드(server.tomcat.threads.max)의 1/4 을 넘지 않도록 대기열을 줄임.
+     * 나머지 작업 스레드는 로그인이 몰려도 다른 API 를 처리할 수 있음.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${auth.password-hash.threads:0}") int threads,
+                                           @Value("${auth.password-hash.queue-capacity:-1}") int queueCapacity,
+                                           @Value("${auth.password-hash.wait-timeout:500ms}") Duration waitTimeout,
+                                           @Value("${server.tomcat.threads.max:200}") int maxWorkerThreads) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // 기본 대기열 : 스레드 수의 2배 (해시 2회분 이상 기다리지 않음)
+        int capacity = queueCapacity >= 0 ? queueCapacity : poolSize * 2;
+        int maxCapacity = Math.max(0, maxWorkerThreads / 4 - poolSize);
+        if (capacity > maxCapacity) {
+            log.warn("비밀번호 해시 대기열을 tomcat 작업 스레드의 1/4 이하로 줄임 : {} -> {}", capacity, maxCapacity);
+            capacity = maxCapacity;
+        }
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, capacity, waitTimeout, meterRegistry);
     }
 
     @Bean
@@ -61,7 +95,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/healthcheck").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtFilter(jwtTokenProvider, jwtRepository), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtFilter(jwtTokenProvider, sessionCache, revokedTokens, jwtProperties), UsernamePasswordAuthenticationFilter.class)
+                // 인증 이후에 회원 기준으로 요청 수 제한
+                .addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties, objectMapper), JwtFilter.class)
                 .exceptionHandling((exceptionConfig) -> exceptionConfig
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
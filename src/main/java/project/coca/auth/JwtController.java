@@ -3,15 +3,15 @@ package project.coca.auth;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import project.coca.auth.jwt.JwtService;
-import project.coca.auth.jwt.JwtTokenProvider;
-import project.coca.auth.jwt.RefreshTokenDto;
-import project.coca.auth.jwt.TokenDto;
+import project.coca.auth.jwt.*;
 import project.coca.common.ApiResponse;
 import project.coca.common.error.ErrorCode;
 import project.coca.common.success.ResponseCode;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @AllArgsConstructor
@@ -33,4 +33,46 @@ public class JwtController {
         }
     }
 
+    /**
+     * 로그인 기기 목록
+     */
+    @GetMapping("/sessions")
+    public ApiResponse<List<SessionResponse>> sessions(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                                       @RequestHeader("Authorization") String bearerToken) {
+        try {
+            String accessToken = jwtTokenProvider.resolveToken(bearerToken);
+            return ApiResponse.response(ResponseCode.OK,
+                    jwtService.findSessions(customUserDetails.getUsername(), accessToken));
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 기기 로그아웃
+     */
+    @DeleteMapping("/sessions/{sessionId}")
+    public ApiResponse<Boolean> logoutSession(@AuthenticationPrincipal CustomUserDetails customUserDetails,
+                                              @PathVariable String sessionId) {
+        try {
+            if (!jwtService.logoutSession(customUserDetails.getUsername(), sessionId)) {
+                return ApiResponse.fail(ErrorCode.NOT_FOUND, "세션이 조회되지 않습니다.");
+            }
+            return ApiResponse.response(ResponseCode.OK, true);
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 기기 로그아웃
+     */
+    @DeleteMapping("/sessions")
+    public ApiResponse<Integer> logoutAll(@AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        try {
+            return ApiResponse.response(ResponseCode.OK, jwtService.logoutAll(customUserDetails.getUsername()));
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package project.coca.auth.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +14,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * 헤더(Authorization)에 있는 토큰을 꺼내 이상이 없는 경우 SecurityContext에 저장
@@ -23,7 +25,9 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
-    private final JwtRepository jwtRepository;
+    private final SessionCache sessionCache;
+    private final RevokedTokens revokedTokens;
+    private final JwtProperties properties;
 
     @Override
     protected void doFilterInternal(
@@ -32,22 +36,22 @@ public class JwtFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
         String accessToken = jwtTokenProvider.resolveToken(request.getHeader("Authorization"));
-        log.info("jwt filter, access token :\"{}\"", accessToken);
+        // 토큰 원문은 로그에 남기지 않음
+        if (log.isDebugEnabled()) {
+            log.debug("jwt filter, {} {}", request.getRequestURI(), accessToken == null ? "no token" : "bearer token");
+        }
         try {
             // 토큰이 유효한 경우 SecurityContext에 인증 정보 저장
-            if (accessToken != null && jwtTokenProvider.validateToken(accessToken, request)) {
-                UserSession session = jwtRepository.getSession(accessToken);
-                if (session == null) {
-                    log.warn("No session found for token: {}", accessToken);
-                    throw new IllegalStateException("Session expired or not found in Redis");
-                }
+            Claims claims = accessToken == null ? null : jwtTokenProvider.getValidClaims(accessToken, request);
+            if (claims != null) {
+                UserSession session = resolveSession(accessToken, claims);
                 UserDetails userDetails = new CustomUserDetails(session);
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
             }
-        } catch (RedisConnectionFailureException e) {
+        } catch (RedisConnectionFailureException | RedisOperationException e) {
             log.error("Redis connection 실패: {}", e.getMessage(), e);
             SecurityContextHolder.clearContext();
             response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
@@ -65,4 +69,25 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 세션 조회
+     * stateless 모드이고 토큰에 권한이 서명돼 있으면 claims 로 세션을 만들고 폐기 여부만 확인,
+     * 아니면 Redis 세션 조회
+     */
+    private UserSession resolveSession(String accessToken, Claims claims) {
+        Object roles = claims.get(JwtTokenProvider.ROLES_CLAIM);
+        if (properties.isStateless() && roles instanceof List<?> roleList) {
+            if (revokedTokens.isRevoked(claims.getId())) {
+                throw new IllegalStateException("Revoked token");
+            }
+            return new UserSession(claims.getSubject(), roleList.stream().map(String::valueOf).toList());
+        }
+        UserSession session = sessionCache.getSession(accessToken);
+        if (session == null) {
+            log.debug("No session found for subject: {}", claims.getSubject());
+            throw new IllegalStateException("Session expired or not found in Redis");
+        }
+        return session;
+    }
+
 }
\ No newline at end of file
@@ -11,4 +11,8 @@ public class JwtProperties {
     private String secret;
     private long accessExpirationTime;
     private long refreshExpirationTime;
+    // true 면 access token 의 claims 만으로 인증 (Redis 세션 조회 없음)
+    private boolean stateless;
+    // 서명 검증을 마친 토큰 캐시 최대 크기
+    private long verifiedCacheSize = 100_000;
 }
@@ -1,19 +1,86 @@
 package project.coca.auth.jwt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class JwtRepository {
+    private static final String SESSIONS_KEY_PREFIX = "sessions:";
+
+    /**
+     * 이전 토큰 삭제, 새 access / refresh token 저장, 회원 세션 목록 갱신을 한 번에 처리
+     * 같은 세션 id 의 항목이 이미 있으면(재발급) 기기 정보와 로그인 시각을 유지함.
+     * KEYS[1] : access token, KEYS[2] : refresh token, KEYS[3] : 세션 목록, KEYS[4..] : 삭제할 이전 토큰
+     * ARGV[1] : 세션, ARGV[2] : access ttl(ms), ARGV[3] : username, ARGV[4] : refresh ttl(ms),
+     * ARGV[5] : 세션 id, ARGV[6] : 세션 목록 항목(JSON)
+     */
+    private static final RedisScript<Long> SAVE_TOKENS_SCRIPT = new DefaultRedisScript<>(
+            "for i = 4, #KEYS do redis.call('DEL', KEYS[i]) end " +
+                    "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+                    "redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4]) " +
+                    "local entry = cjson.decode(ARGV[6]) " +
+                    "local old = redis.call('HGET', KEYS[3], ARGV[5]) " +
+                    "if old then local o = cjson.decode(old) entry.device = o.device entry.createdAt = o.createdAt end " +
+                    "redis.call('HSET', KEYS[3], ARGV[5], cjson.encode(entry)) " +
+                    "if redis.call('PTTL', KEYS[3]) < tonumber(ARGV[4]) then redis.call('PEXPIRE', KEYS[3], ARGV[4]) end " +
+                    "return 1", Long.class);
+
+    /**
+     * 세션 1개 삭제 (토큰 + 세션 목록 항목)
+     * script 가 건드리는 키는 모두 KEYS 로 넘겨야 하므로(Redis Cluster), 세션 목록 항목을 먼저 읽어 토큰 키를 함께 넘기고
+     * 그 사이 항목이 바뀌었으면(재발급 등) 아무것도 삭제하지 않고 0 을 반환함 -> 다시 읽어 재시도
+     * KEYS[1] : 세션 목록, KEYS[2..] : 함께 삭제할 토큰, ARGV[1] : 세션 id, ARGV[2] : 읽었던 항목 (없으면 빈 문자열)
+     *
+     * @return 삭제했으면 1, 항목이 바뀌었으면 0
+     */
+    private static final RedisScript<Long> DELETE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('HGET', KEYS[1], ARGV[1]) " +
+                    "if (value or '') ~= ARGV[2] then return 0 end " +
+                    "for i = 2, #KEYS do redis.call('DEL', KEYS[i]) end " +
+                    "if value then redis.call('HDEL', KEYS[1], ARGV[1]) end " +
+                    "return 1", Long.class);
+
+    /**
+     * 회원의 모든 세션 삭제
+     * 세션 목록을 먼저 읽어 토큰 키를 KEYS 로 넘기고, 그 사이 목록이 바뀌었으면 0 을 반환함 -> 다시 읽어 재시도
+     * KEYS[1] : 세션 목록, KEYS[2..] : 삭제할 토큰, ARGV : 읽었던 목록 (세션 id, 항목 순서로 나열)
+     *
+     * @return 삭제했으면 1, 목록이 바뀌었으면 0
+     */
+    private static final RedisScript<Long> DELETE_ALL_SESSIONS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HLEN', KEYS[1]) * 2 ~= #ARGV then return 0 end " +
+                    "for i = 1, #ARGV, 2 do " +
+                    "if redis.call('HGET', KEYS[1], ARGV[i]) ~= ARGV[i + 1] then return 0 end " +
+                    "end " +
+                    "for i = 2, #KEYS do redis.call('DEL', KEYS[i]) end " +
+                    "redis.call('DEL', KEYS[1]) " +
+                    "return 1", Long.class);
+
+    // 세션 목록이 계속 바뀌는 경우 재시도 횟수
+    private static final int MAX_DELETE_ATTEMPTS = 3;
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
 
     public String getUsername(String refreshToken) {
         return (String) getValue(refreshToken);
@@ -43,16 +110,173 @@ public class JwtRepository {
 
     public void setValue(String key, Object value, long time) {
         try {
-            if (getValue(key) != null) {
-                deleteValue(key);
-            }
-            Duration expiredDuration = Duration.ofMillis(time);
-            redisTemplate.opsForValue().set(key, value, expiredDuration);
-            Object o = redisTemplate.opsForValue().get(key);
-            log.info("Success to set token in Redis{}", o);
+            // SET 은 기존 값을 덮어쓰므로 조회 / 삭제 불필요
+            redisTemplate.opsForValue().set(key, value, Duration.ofMillis(time));
         } catch (Exception e) {
             log.error("Failed to set token in Redis: {}", e.getMessage());
             throw new RedisOperationException("Error setting token in Redis", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 토큰 발급 결과 저장 (Redis 왕복 1회, Lua script 로 원자적으로 처리)
+     * 이전 토큰이 있으면(재발급) 같은 script 안에서 삭제하고, 회원 세션 목록(sessions:{memberId})도 함께 갱신함.
+     *
+     * @param info           세션 정보 (새로 발급된 토큰 포함)
+     * @param session        access token 에 연결할 세션
+     * @param accessTtl      access token 보관 시간(ms)
+     * @param refreshTtl     refresh token 보관 시간(ms)
+     * @param previousTokens 삭제할 이전 토큰 (null 무시)
+     */
+    @SuppressWarnings("unchecked")
+    public void saveTokens(SessionInfo info, UserSession session, long accessTtl, long refreshTtl,
+                           String... previousTokens) {
+        List<String> keys = new ArrayList<>();
+        keys.add(info.getAccessToken());
+        keys.add(info.getRefreshToken());
+        keys.add(SESSIONS_KEY_PREFIX + session.getUsername());
+        for (String previous : previousTokens) {
+            if (previous != null) {
+                keys.add(previous);
+            }
+        }
+        try {
+            // 값은 RedisTemplate 의 value serializer 로 직렬화해 getValue 와 형식을 맞춤
+            RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+            redisTemplate.execute(SAVE_TOKENS_SCRIPT, RedisSerializer.byteArray(),
+                    new GenericToStringSerializer<>(Long.class), keys,
+                    valueSerializer.serialize(session), bytesOf(accessTtl),
+                    valueSerializer.serialize(session.getUsername()), bytesOf(refreshTtl),
+                    info.getSessionId().getBytes(StandardCharsets.UTF_8), objectMapper.writeValueAsBytes(info));
+        } catch (Exception e) {
+            log.error("Failed to save tokens in Redis: {}", e.getMessage());
+            throw new RedisOperationException("Error setting token in Redis", e);
+        }
+    }
+
+    /**
+     * 회원 세션 1개 삭제
+     *
+     * @param memberId  회원 id
+     * @param sessionId 세션 id (null 이면 tokens 만 삭제)
+     * @param tokens    함께 삭제할 토큰 (null 무시)
+     * @return 삭제된 세션의 access token, 세션 목록에 없으면 null
+     */
+    public String deleteSession(String memberId, String sessionId, String... tokens) {
+        String key = SESSIONS_KEY_PREFIX + memberId;
+        String field = sessionId == null ? "" : sessionId;
+        try {
+            for (int attempt = 0; attempt < MAX_DELETE_ATTEMPTS; attempt++) {
+                String value = sessionId == null ? null : (String) stringRedisTemplate.opsForHash().get(key, sessionId);
+                SessionInfo info = value == null ? null : readSessionInfo(value);
+                List<String> keys = new ArrayList<>();
+                keys.add(key);
+                addTokens(keys, tokens);
+                if (info != null) {
+                    addTokens(keys, info.getAccessToken(), info.getRefreshToken());
+                }
+                Long deleted = stringRedisTemplate.execute(DELETE_SESSION_SCRIPT, keys, field, value == null ? "" : value);
+                if (deleted != null && deleted == 1) {
+                    return info == null ? null : info.getAccessToken();
+                }
+            }
+        } catch (Exception e) {
+            log.error("Redis 세션 삭제 실패 : {}", e.getMessage());
+            throw new RedisOperationException("Redis에서 삭제 수행 중 오류가 발생함", e);
+        }
+        log.error("Redis 세션 삭제 실패 (세션 목록이 계속 변경됨) : {}", memberId);
+        throw new RedisOperationException("Redis에서 삭제 수행 중 오류가 발생함");
+    }
+
+    /**
+     * 회원의 모든 세션 삭제
+     *
+     * @return 삭제된 세션들의 access token
+     */
+    public List<String> deleteAllSessions(String memberId) {
+        String key = SESSIONS_KEY_PREFIX + memberId;
+        try {
+            for (int attempt = 0; attempt < MAX_DELETE_ATTEMPTS; attempt++) {
+                Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+                List<String> keys = new ArrayList<>();
+                keys.add(key);
+                List<String> expected = new ArrayList<>();
+                List<String> accessTokens = new ArrayList<>();
+                for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                    expected.add((String) entry.getKey());
+                    expected.add((String) entry.getValue());
+                    SessionInfo info = readSessionInfo((String) entry.getValue());
+                    if (info != null) {
+                        addTokens(keys, info.getAccessToken(), info.getRefreshToken());
+                        if (info.getAccessToken() != null) {
+                            accessTokens.add(info.getAccessToken());
+                        }
+                    }
+                }
+                Long deleted = stringRedisTemplate.execute(DELETE_ALL_SESSIONS_SCRIPT, keys, expected.toArray());
+                if (deleted != null && deleted == 1) {
+                    return accessTokens;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Redis 세션 전체 삭제 실패 : {}", e.getMessage());
+            throw new RedisOperationException("Redis에서 삭제 수행 중 오류가 발생함", e);
+        }
+        log.error("Redis 세션 전체 삭제 실패 (세션 목록이 계속 변경됨) : {}", memberId);
+        throw new RedisOperationException("Redis에서 삭제 수행 중 오류가 발생함");
+    }
+
+    private static void addTokens(List<String> keys, String... tokens) {
+        for (String token : tokens) {
+            if (token != null) {
+                keys.add(token);
+            }
+        }
+    }
+
+    /**
+     * 회원의 세션 목록 (만료된 항목은 제외하고 목록에서도 삭제)
+     */
+    public List<SessionInfo> findSessions(String memberId) {
+        String key = SESSIONS_KEY_PREFIX + memberId;
+        Map<Object, Object> entries;
+        try {
+            entries = stringRedisTemplate.opsForHash().entries(key);
+        } catch (Exception e) {
+            log.error("Redis에서 조회 수행 중 오류가 발생함 : {}", e.getMessage());
+            throw new RedisOperationException("Redis에서 조회 수행 중 오류가 발생함", e);
+        }
+        long now = System.currentTimeMillis();
+        List<SessionInfo> sessions = new ArrayList<>();
+        List<Object> expired = new ArrayList<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            SessionInfo info = readSessionInfo((String) entry.getValue());
+            if (info == null || info.getExpiresAt() <= now) {
+                expired.add(entry.getKey());
+            } else {
+                sessions.add(info);
+            }
+        }
+        if (!expired.isEmpty()) {
+            try {
+                stringRedisTemplate.opsForHash().delete(key, expired.toArray());
+            } catch (Exception e) {
+                log.warn("만료된 세션 정리 실패 : {}", e.getMessage());
+            }
+        }
+        return sessions;
+    }
+
+    private SessionInfo readSessionInfo(String value) {
+        try {
+            return objectMapper.readValue(value, SessionInfo.class);
+        } catch (JsonProcessingException e) {
+            log.warn("세션 목록 항목 해석 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] bytesOf(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package project.coca.auth.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +9,10 @@ import project.coca.domain.personal.Member;
 import project.coca.member.MemberRepository;
 
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -17,38 +22,131 @@ public class JwtService {
     private final JwtRepository jwtRepository;
     private final MemberRepository memberRepository;
     private final JwtProperties properties;
+    private final SessionCache sessionCache;
+    private final RevokedTokens revokedTokens;
 
     public TokenDto reissueToken(String accessToken, String refreshToken, HttpServletRequest request) {
         try {
             // Refresh Token 검증
-            if (!jwtTokenProvider.validateToken(refreshToken, request)) {
+            Claims refreshClaims = jwtTokenProvider.getValidClaims(refreshToken, request);
+            if (refreshClaims == null) {
                 throw new IllegalArgumentException("Invalid Refresh Token");
             }
             // Refresh Token 에서 username을 가져옴
             String username = jwtRepository.getUsername(refreshToken);
             Member member = memberRepository.findById(username).orElseThrow();
             username = member.getId();
-            jwtRepository.deleteValue(accessToken);
-            jwtRepository.deleteValue(refreshToken);
+            // 세션 id 는 그대로 이어받음 (세션 id 가 없는 이전 토큰이면 새로 발급)
+            String refreshSessionId = refreshClaims.get(JwtTokenProvider.SESSION_ID_CLAIM, String.class);
+            String sessionId = refreshSessionId;
+            if (sessionId == null) {
+                sessionId = UUID.randomUUID().toString();
+            }
             // token 생성
-            String newAccessToken = jwtTokenProvider.createAccessToken(username);
-            String newRefreshToken = jwtTokenProvider.createRefreshToken(username);
-            // token 저장
-            jwtRepository.setValue(accessToken,
-                    new UserSession(username, Collections.singletonList(member.getRole())),
-                    properties.getAccessExpirationTime());
-            jwtRepository.setValue(refreshToken, username, properties.getRefreshExpirationTime());
-
-            UserSession session = jwtRepository.getSession(accessToken);
-            log.info("new session by reissued token :{}", session.toString());
-
-            log.info("New Access Token : {}", newAccessToken);
-            log.info("New Refresh Token : {}", newRefreshToken);
+            List<String> roles = Collections.singletonList(member.getRole());
+            TokenDto tokens = new TokenDto(jwtTokenProvider.createAccessToken(username, roles, sessionId),
+                    jwtTokenProvider.createRefreshToken(username, sessionId));
+            // 이전 token 삭제와 새 token 저장을 한 번에 처리
+            // 클라이언트가 보낸 access token 은 Redis key 로 삭제되므로, 같은 회원 / 세션의 access token 일 때만 사용
+            String previousAccessToken = ownAccessToken(accessToken, username, refreshSessionId);
+            jwtRepository.saveTokens(newSessionInfo(sessionId, tokens, null), new UserSession(username, roles),
+                    properties.getAccessExpirationTime(), properties.getRefreshExpirationTime(),
+                    previousAccessToken, refreshToken);
+            if (previousAccessToken != null) {
+                sessionCache.invalidate(previousAccessToken);
+                revokedTokens.revoke(previousAccessToken);
+            }
             // 반환
-            return new TokenDto(newAccessToken, newRefreshToken);
+            return tokens;
         } catch (Exception e) {
             log.error("Token reissue failed: {}", e.getMessage());
             throw new IllegalArgumentException("Token 재발급 실패", e);
         }
     }
+
+    /**
+     * 재발급 요청의 access token 확인
+     * 서명이 유효하고(만료 무관) jti 가 있는 access token 이며, refresh token 과 회원 / 세션 id 가 같을 때만 반환
+     *
+     * @return 확인된 access token, 아니면 null (이전 access token 은 만료까지 두고 삭제 / 폐기하지 않음)
+     */
+    private String ownAccessToken(String accessToken, String username, String sessionId) {
+        if (accessToken == null) {
+            return null;
+        }
+        Claims claims = jwtTokenProvider.getClaimsIgnoringExpiration(accessToken);
+        if (claims == null || claims.getId() == null || !username.equals(claims.getSubject())
+                || !Objects.equals(sessionId, claims.get(JwtTokenProvider.SESSION_ID_CLAIM, String.class))) {
+            log.warn("재발급 요청의 access token 이 refresh token 과 맞지 않음 : {}", username);
+            return null;
+        }
+        return accessToken;
+    }
+
+    /**
+     * 세션 목록 항목 생성 (로그인 / 재발급)
+     *
+     * @param device 로그인 기기 (재발급 시에는 기존 값이 유지됨)
+     */
+    public SessionInfo newSessionInfo(String sessionId, TokenDto tokens, String device) {
+        long now = System.currentTimeMillis();
+        return new SessionInfo(sessionId, tokens.getAccessToken(), tokens.getRefreshToken(), device,
+                now, now + properties.getRefreshExpirationTime());
+    }
+
+    /**
+     * 로그인 기기 목록
+     *
+     * @param memberId           회원 id
+     * @param currentAccessToken 요청한 access token (현재 기기 표시용)
+     */
+    public List<SessionResponse> findSessions(String memberId, String currentAccessToken) {
+        String currentSessionId = sessionIdOf(currentAccessToken);
+        return jwtRepository.findSessions(memberId)
+                .stream()
+                .sorted(Comparator.comparingLong(SessionInfo::getCreatedAt).reversed())
+                .map(info -> SessionResponse.of(info, currentSessionId))
+                .toList();
+    }
+
+    /**
+     * 특정 기기 로그아웃
+     *
+     * @return 해당 세션이 있었으면 true
+     */
+    public boolean logoutSession(String memberId, String sessionId) {
+        String accessToken = jwtRepository.deleteSession(memberId, sessionId);
+        if (accessToken == null) {
+            return false;
+        }
+        sessionCache.invalidate(accessToken);
+        revokedTokens.revoke(accessToken);
+        return true;
+    }
+
+    /**
+     * 모든 기기 로그아웃 (비밀번호 변경, 회원 탈퇴 포함)
+     *
+     * @return 로그아웃된 세션 수
+     */
+    public int logoutAll(String memberId) {
+        List<String> accessTokens = jwtRepository.deleteAllSessions(memberId);
+        for (String accessToken : accessTokens) {
+            sessionCache.invalidate(accessToken);
+            revokedTokens.revoke(accessToken);
+        }
+        log.info("모든 기기 로그아웃 : {}, {}개 세션", memberId, accessTokens.size());
+        return accessTokens.size();
+    }
+
+    /**
+     * 토큰의 세션 id (서명이 유효하지 않거나 세션 id 가 없으면 null)
+     */
+    public String sessionIdOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        Claims claims = jwtTokenProvider.getClaimsIgnoringExpiration(token);
+        return claims == null ? null : claims.get(JwtTokenProvider.SESSION_ID_CLAIM, String.class);
+    }
 }
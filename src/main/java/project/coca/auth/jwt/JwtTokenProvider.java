@@ -1,5 +1,8 @@
 package project.coca.auth.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +12,9 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 생성/파싱/검증 전담 class
@@ -19,46 +25,76 @@ public class JwtTokenProvider {
 
     private final Key key;
     private final JwtProperties properties;
+    // 불변 객체라 여러 스레드에서 공유 가능
+    private final JwtParser parser;
+    // 서명 검증을 마친 토큰, key : 서명 부분, 토큰 만료 시각까지만 보관
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenProvider(JwtProperties properties) {
         this.properties = properties;
         byte[] keyBytes = Base64.getDecoder().decode(properties.getSecret());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCacheSize())
+                .expireAfter(new UntilExpiration())
+                .build();
     }
 
+    public static final String ROLES_CLAIM = "roles";
+    // 로그인 1회(기기)마다 발급되는 세션 id, 재발급 시 그대로 이어받음
+    public static final String SESSION_ID_CLAIM = "sid";
+
     /**
      * JWT AccessToken 생성
+     * stateless 모드에서 Redis 조회 없이 인증할 수 있도록 권한과 토큰 id(jti)를 함께 서명함.
      *
      * @param username
+     * @param roles
+     * @param sessionId
      * @return String : AccessToken
      */
-    public String createAccessToken(String username) {
-        return createToken(username, properties.getAccessExpirationTime());
+    public String createAccessToken(String username, List<String> roles, String sessionId) {
+        Date now = new Date();
+        Date expireDate = new Date(now.getTime() + properties.getAccessExpirationTime());
+
+        return Jwts.builder()
+                .setSubject(username)
+                .setId(UUID.randomUUID().toString())
+                .claim(ROLES_CLAIM, roles)
+                .claim(SESSION_ID_CLAIM, sessionId)
+                .setIssuedAt(now)
+                .setExpiration(expireDate)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
     }
 
     /**
      * JWT RefreshToken 생성
      *
      * @param username
+     * @param sessionId
      * @return String : RefreshToken
      */
-    public String createRefreshToken(String username) {
-        return createToken(username, properties.getRefreshExpirationTime());
+    public String createRefreshToken(String username, String sessionId) {
+        return createToken(username, sessionId, properties.getRefreshExpirationTime());
     }
 
     /**
      * JWT 생성
      *
      * @param subject
+     * @param sessionId
      * @param duration
      * @return
      */
-    private String createToken(String subject, long duration) {
+    private String createToken(String subject, String sessionId, long duration) {
         Date now = new Date();
         Date expireDate = new Date(now.getTime() + duration);
 
         return Jwts.builder()
                 .setSubject(subject)
+                .claim(SESSION_ID_CLAIM, sessionId)
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -66,9 +102,37 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token, HttpServletRequest request) {
+        return getValidClaims(token, request) != null;
+    }
+
+    /**
+     * 토큰 검증 후 claims 반환
+     * 이미 검증한 토큰은 서명 부분으로 캐시에서 찾아 header.payload 가 같은지만 확인하고 재검증하지 않음.
+     * 검증에 실패한 토큰은 캐시하지 않음.
+     *
+     * @return 유효하지 않으면 null (사유는 request attribute "exception" 에 기록)
+     */
+    public Claims getValidClaims(String token, HttpServletRequest request) {
+        int signatureStart = token.lastIndexOf('.');
+        String signature = signatureStart < 0 ? null : token.substring(signatureStart + 1);
+        if (signature != null && !signature.isEmpty()) {
+            VerifiedToken verified = verifiedTokens.getIfPresent(signature);
+            if (verified != null && verified.matches(token, signatureStart)) {
+                if (verified.expiresAt() > System.currentTimeMillis()) {
+                    return verified.claims();
+                }
+                verifiedTokens.invalidate(signature);
+                request.setAttribute("exception", "TokenExpired");
+                return null;
+            }
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (signature != null && claims.getExpiration() != null) {
+                verifiedTokens.put(signature, new VerifiedToken(token.substring(0, signatureStart), claims,
+                        claims.getExpiration().getTime()));
+            }
+            return claims;
         } catch (ExpiredJwtException e) {
             request.setAttribute("exception", "TokenExpired");
         } catch (UnsupportedJwtException e) {
@@ -78,7 +142,22 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             request.setAttribute("exception", "IllegalArgument");
         }
-        return false;
+        return null;
+    }
+
+    /**
+     * 서명이 유효한 토큰의 claims 반환 (만료 여부 무관)
+     *
+     * @return 서명이 유효하지 않으면 null
+     */
+    public Claims getClaimsIgnoringExpiration(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
     }
 
     public String resolveToken(String bearerToken) {
@@ -87,4 +166,37 @@ public class JwtTokenProvider {
         }
         return null;
     }
+
+    /**
+     * 서명 검증을 마친 토큰
+     *
+     * @param signedContent 서명 대상(header.payload), 서명만 같은 변조 토큰을 거르기 위해 비교
+     * @param expiresAt     만료 시각 (epoch millis)
+     */
+    private record VerifiedToken(String signedContent, Claims claims, long expiresAt) {
+        private boolean matches(String token, int signatureStart) {
+            return signatureStart == signedContent.length() && token.startsWith(signedContent);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰 만료 시각까지만 보관
+     */
+    private static class UntilExpiration implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remaining = value.expiresAt() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
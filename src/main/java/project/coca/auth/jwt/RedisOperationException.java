@@ -1,6 +1,10 @@
 package project.coca.auth.jwt;
 
 class RedisOperationException extends RuntimeException {
+    public RedisOperationException(String message) {
+        super(message);
+    }
+
     public RedisOperationException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,137 @@
+package project.coca.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 폐기된 access token 목록 (stateless 모드용)
+ * - Redis : revoked:{jti}, 토큰 만료 시각까지만 보관
+ * - 인스턴스 : Bloom filter 로 보관해 대부분의 요청을 Redis 조회 없이 판단
+ * 폐기 시 pub/sub 으로 모든 인스턴스의 filter 에 추가하고,
+ * 만료된 id 를 비우기 위해 주기적으로 Redis 에서 filter 를 새로 만듦.
+ */
+@Slf4j
+@Component
+public class RevokedTokens implements MessageListener {
+    public static final String REVOKED_CHANNEL = "jwt:revoked";
+    private static final String KEY_PREFIX = "revoked:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+    // 재생성 중인 filter, 재생성 도중 폐기된 id 도 함께 추가함
+    private volatile BloomFilter rebuilding;
+
+    public RevokedTokens(StringRedisTemplate stringRedisTemplate,
+                         JwtTokenProvider jwtTokenProvider,
+                         @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                         @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * access token 폐기 (로그아웃 / 재발급)
+     * 이미 만료됐거나 jti 가 없는 토큰은 무시
+     */
+    public void revoke(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+        Claims claims = jwtTokenProvider.getClaimsIgnoringExpiration(accessToken);
+        if (claims == null || claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+        long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return;
+        }
+        String jti = claims.getId();
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + jti, "1", Duration.ofMillis(remaining));
+        add(jti);
+        try {
+            stringRedisTemplate.convertAndSend(REVOKED_CHANNEL, jti);
+        } catch (Exception e) {
+            // 다른 인스턴스는 다음 filter 재생성 때 반영됨
+            log.warn("토큰 폐기 메시지 발행 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     * filter 에 없으면 Redis 조회 없이 false, filter 에 있으면 Redis 로 확인 (오탐 제거)
+     * Redis 확인이 실패하면 폐기된 것으로 간주
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (Exception e) {
+            log.warn("폐기 토큰 확인 실패 : {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기한 토큰 id 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void add(String jti) {
+        // 재생성 중인 filter 를 먼저 확인해야 교체 시점에 추가된 id 가 빠지지 않음
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(jti);
+        }
+        filter.put(jti);
+    }
+
+    /**
+     * Redis 에 남아있는 폐기 id 로 filter 재생성 (만료된 id 제거)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${jwt.revocation.rebuild-delay:300000}",
+            fixedDelayString = "${jwt.revocation.rebuild-delay:300000}")
+    public synchronized void rebuild() {
+        BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = rebuilt;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        int count = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                rebuilt.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (Exception e) {
+            log.warn("폐기 토큰 filter 재생성 실패 : {}", e.getMessage());
+            rebuilding = null;
+            return;
+        }
+        filter = rebuilt;
+        rebuilding = null;
+        log.debug("폐기 토큰 filter 재생성 : {}건", count);
+    }
+}
@@ -0,0 +1,117 @@
+package project.coca.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * JWT 세션 near-cache
+ * 요청마다 Redis 를 조회하지 않도록 세션을 인스턴스 메모리에 잠시 보관함.
+ * - key : 토큰의 SHA-256 (원본 토큰은 메모리에 두지 않음)
+ * - ttl 이 지나면 Redis 에서 다시 확인하고, 그 사이 Redis 가 응답하지 않으면 hard-ttl 까지는 보관된 세션으로 인증
+ * - 로그아웃 / 재발급 시 Redis pub/sub 으로 모든 인스턴스의 캐시를 무효화
+ */
+@Slf4j
+@Component
+public class SessionCache implements MessageListener {
+    public static final String INVALIDATE_CHANNEL = "jwt:session:invalidate";
+
+    private final JwtRepository jwtRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, CachedSession> cache;
+    private final long ttlNanos;
+
+    public SessionCache(JwtRepository jwtRepository,
+                        StringRedisTemplate stringRedisTemplate,
+                        @Value("${jwt.session-cache.ttl:30s}") Duration ttl,
+                        @Value("${jwt.session-cache.hard-ttl:5m}") Duration hardTtl,
+                        @Value("${jwt.session-cache.maximum-size:100000}") long maximumSize) {
+        this.jwtRepository = jwtRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(hardTtl)
+                .build();
+    }
+
+    /**
+     * access token 으로 세션 조회
+     *
+     * @return 세션, 없으면 null
+     * @throws RedisOperationException Redis 오류이면서 보관된 세션도 없는 경우
+     */
+    public UserSession getSession(String accessToken) {
+        String key = hash(accessToken);
+        CachedSession cached = cache.getIfPresent(key);
+        if (cached != null && System.nanoTime() - cached.loadedAt < ttlNanos) {
+            return cached.session;
+        }
+
+        UserSession session;
+        try {
+            session = jwtRepository.getSession(accessToken);
+        } catch (RedisOperationException e) {
+            if (cached != null) {
+                log.warn("Redis 조회 실패, 보관된 세션으로 인증 : {}", e.getMessage());
+                return cached.session;
+            }
+            throw e;
+        }
+
+        if (session == null) {
+            cache.invalidate(key);
+            return null;
+        }
+        cache.put(key, new CachedSession(session, System.nanoTime()));
+        return session;
+    }
+
+    /**
+     * 세션 캐시 무효화 (모든 인스턴스)
+     */
+    public void invalidate(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+        String key = hash(accessToken);
+        cache.invalidate(key);
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, key);
+        } catch (Exception e) {
+            // 다른 인스턴스는 ttl 이 지나면 Redis 에서 다시 확인함
+            log.warn("세션 무효화 메시지 발행 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedSession(UserSession session, long loadedAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package project.coca.auth.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 세션 목록(sessions:{memberId})의 항목
+ * 로그인 1회가 세션 1개이며, 재발급 시 같은 세션 id 로 토큰만 교체됨.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionInfo {
+    private String sessionId;
+    private String accessToken;
+    private String refreshToken;
+    // 로그인 시 User-Agent
+    private String device;
+    // 로그인 시각 (epoch millis)
+    private long createdAt;
+    // refresh token 만료 시각 (epoch millis)
+    private long expiresAt;
+}
@@ -0,0 +1,137 @@
+package project.coca.auth.jwt;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 / refresh token 값 전용 Redis serializer
+ * JSON 의 @class, 필드 이름 없이 아래 binary 형식으로 저장함.
+ * - [MAGIC][VERSION][TYPE][본문]
+ * - 문자열 : 길이(varint) + UTF-8
+ * - UserSession : username, 권한 수(varint), 권한 목록
+ * MAGIC 으로 시작하지 않는 값(기존 JSON 항목)은 JSON 으로 읽어, 기존 세션이 만료될 때까지 함께 사용 가능.
+ * 세션 / 문자열 외의 값은 JSON 으로 저장함.
+ */
+public class SessionRedisSerializer implements RedisSerializer<Object> {
+    // JSON 은 이 byte 로 시작할 수 없음 (UTF-8 에서 쓰이지 않는 값)
+    static final byte MAGIC = (byte) 0xC0;
+    static final byte VERSION = 1;
+    static final byte TYPE_STRING = 1;
+    static final byte TYPE_SESSION = 2;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof UserSession session) {
+            ByteArrayOutputStream out = header(TYPE_SESSION);
+            writeString(out, session.getUsername());
+            List<String> roles = session.getRoles() == null ? List.of() : session.getRoles();
+            writeVarInt(out, roles.size());
+            for (String role : roles) {
+                writeString(out, role);
+            }
+            return out.toByteArray();
+        }
+        if (value instanceof String string) {
+            ByteArrayOutputStream out = header(TYPE_STRING);
+            writeString(out, string);
+            return out.toByteArray();
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new SerializationException("지원하지 않는 세션 형식 버전 : " + version);
+            }
+            byte type = in.get();
+            return switch (type) {
+                case TYPE_STRING -> readString(in);
+                case TYPE_SESSION -> readSession(in);
+                default -> throw new SerializationException("알 수 없는 세션 값 타입 : " + type);
+            };
+        } catch (RuntimeException e) {
+            if (e instanceof SerializationException serializationException) {
+                throw serializationException;
+            }
+            throw new SerializationException("세션 값 역직렬화 실패", e);
+        }
+    }
+
+    private static UserSession readSession(ByteBuffer in) {
+        String username = readString(in);
+        int count = readVarInt(in);
+        List<String> roles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            roles.add(readString(in));
+        }
+        return new UserSession(username, roles);
+    }
+
+    private static ByteArrayOutputStream header(byte type) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        out.write(MAGIC);
+        out.write(VERSION);
+        out.write(type);
+        return out;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            // 길이 0 + 1 로 null 과 빈 문자열을 구분
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("잘못된 길이 값");
+    }
+}
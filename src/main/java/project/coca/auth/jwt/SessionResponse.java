@@ -0,0 +1,32 @@
+package project.coca.auth.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 로그인 기기 목록 응답 (토큰은 포함하지 않음)
+ */
+@Data
+@AllArgsConstructor
+public class SessionResponse {
+    private String sessionId;
+    private String device;
+    private LocalDateTime loggedInAt;
+    private LocalDateTime expiresAt;
+    // 요청을 보낸 세션인지 여부
+    private boolean current;
+
+    public static SessionResponse of(SessionInfo info, String currentSessionId) {
+        return new SessionResponse(info.getSessionId(), info.getDevice(),
+                toDateTime(info.getCreatedAt()), toDateTime(info.getExpiresAt()),
+                info.getSessionId().equals(currentSessionId));
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
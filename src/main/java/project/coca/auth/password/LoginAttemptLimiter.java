@@ -0,0 +1,88 @@
+package project.coca.auth.password;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import project.coca.common.exception.TooManyRequestsException;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 비밀번호 확인 시도 횟수 제한 (Redis)
+ * - 계정 : login:attempt:account:{memberId}, 로그인에 성공하면 초기화
+ * - IP : login:attempt:ip:{ip}
+ * 한도를 넘으면 비밀번호를 해시하기 전에 TooManyRequestsException (429)
+ * Redis 오류 시에는 제한하지 않음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginAttemptLimiter {
+    private static final String ACCOUNT_KEY_PREFIX = "login:attempt:account:";
+    private static final String IP_KEY_PREFIX = "login:attempt:ip:";
+
+    /**
+     * 계정 / IP 시도 횟수를 함께 증가 (처음 증가할 때만 만료 설정)
+     * KEYS[1] : 계정 키, KEYS[2] : IP 키, ARGV[1] : 계정 window(ms), ARGV[2] : IP window(ms)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ATTEMPT_SCRIPT = new DefaultRedisScript<>(
+            "local account = redis.call('INCR', KEYS[1]) " +
+                    "if account == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[1]) end " +
+                    "local ip = redis.call('INCR', KEYS[2]) " +
+                    "if ip == 1 then redis.call('PEXPIRE', KEYS[2], ARGV[2]) end " +
+                    "return {account, ip}", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${auth.login-limit.account-max-attempts:10}")
+    private long accountMaxAttempts;
+    @Value("${auth.login-limit.account-window:10m}")
+    private Duration accountWindow;
+    @Value("${auth.login-limit.ip-max-attempts:100}")
+    private long ipMaxAttempts;
+    @Value("${auth.login-limit.ip-window:1m}")
+    private Duration ipWindow;
+
+    /**
+     * 시도 기록 후 한도 확인
+     *
+     * @throws TooManyRequestsException 계정 또는 IP 의 시도 횟수가 한도를 넘은 경우
+     */
+    public void checkAttempt(String memberId, String clientIp) {
+        List<?> counts;
+        try {
+            counts = redisTemplate.execute(ATTEMPT_SCRIPT,
+                    List.of(ACCOUNT_KEY_PREFIX + memberId, IP_KEY_PREFIX + clientIp),
+                    String.valueOf(accountWindow.toMillis()), String.valueOf(ipWindow.toMillis()));
+        } catch (Exception e) {
+            log.warn("로그인 시도 횟수 확인 실패 : {}", e.getMessage());
+            return;
+        }
+        if (counts == null || counts.size() < 2) {
+            return;
+        }
+        if (((Number) counts.get(0)).longValue() > accountMaxAttempts) {
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (((Number) counts.get(1)).longValue() > ipMaxAttempts) {
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 비밀번호 확인 성공 시 계정 시도 횟수 초기화
+     */
+    public void reset(String memberId) {
+        try {
+            redisTemplate.delete(ACCOUNT_KEY_PREFIX + memberId);
+        } catch (Exception e) {
+            log.warn("로그인 시도 횟수 초기화 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package project.coca.common.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * primary 에서 읽는 조회 (새 readOnly 트랜잭션)
+ * 결과를 캐시에 저장하는 조회에 사용. replica 의 복제 지연으로 이전 값이 캐시 TTL 동안 남는 것을 막음.
+ * replica 가 설정되지 않았으면 기본 DataSource 에서 그대로 조회함.
+ */
+@Component
+public class PrimaryReader {
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> query) {
+        return ReplicationRoutingDataSource.onPrimary(() -> transactionTemplate.execute(status -> query.get()));
+    }
+}
@@ -0,0 +1,190 @@
+package project.coca.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * primary / replica 라우팅 DataSource
+ * <p>
+ * readOnly 트랜잭션은 replica 로, 그 외(쓰기 트랜잭션, 트랜잭션 밖 조회)는 primary 로 보냄.
+ * 회원이 쓰기 트랜잭션을 커밋하면 stickyDuration 동안 해당 회원의 조회도 primary 로 보내
+ * replica 복제 지연으로 본인이 방금 쓴 데이터가 안 보이는 문제(read-your-writes)를 막음.
+ * <p>
+ * 다음 요청은 다른 인스턴스로 갈 수 있으므로 고정 표시는 Redis(db:sticky:{memberId}, TTL = stickyDuration)에 공유하고,
+ * 같은 인스턴스에서는 로컬 map 으로 먼저 확인함. Redis 오류 시에는 로컬 표시만 사용함.
+ * 조회마다 Redis 를 왕복하지 않도록 Redis 에서 확인한 결과는 로컬에 저장함
+ * (고정이면 남은 시간만큼, 고정이 아니면 stickyCheckInterval 동안 다시 확인하지 않음).
+ * 따라서 이 인스턴스가 방금 고정이 아닌 것을 확인한 회원은, 다른 인스턴스에서 쓴 뒤 stickyCheckInterval 이내의 조회가 replica 로 갈 수 있음.
+ * <p>
+ * 결과를 캐시에 오래 저장하는 조회는 다른 회원이 방금 쓴 데이터가 빠진 값을 캐시할 수 있으므로
+ * onPrimary 안에서 새 트랜잭션으로 조회해 primary 로 보냄 (PrimaryReader).
+ * <p>
+ * 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 라우팅해야 readOnly 여부를 알 수 있으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용해야 함.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+    private static final int STICKY_CLEANUP_THRESHOLD = 10_000;
+    private static final String STICKY_KEY_PREFIX = "db:sticky:";
+    // onPrimary 안에서 커넥션을 얻는 readOnly 트랜잭션은 primary 로 보냄
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final Duration stickyDuration;
+    private final long stickyCheckIntervalMillis;
+    // 인스턴스 간 공유 고정 표시, null 이면 로컬 표시만 사용
+    private final StringRedisTemplate redisTemplate;
+    private final Supplier<String> currentMemberId;
+    private final Clock clock;
+    // 회원 id -> primary 고정 만료 시각(epoch millis)
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    // 회원 id -> Redis 에서 고정이 아닌 것을 확인한 결과의 만료 시각(epoch millis)
+    private final Map<String, Long> notStickyUntil = new ConcurrentHashMap<>();
+
+    public ReplicationRoutingDataSource(Duration stickyDuration, Duration stickyCheckInterval,
+                                        StringRedisTemplate redisTemplate) {
+        this(stickyDuration, stickyCheckInterval, redisTemplate,
+                ReplicationRoutingDataSource::authenticatedMemberId, Clock.systemUTC());
+    }
+
+    public ReplicationRoutingDataSource(Duration stickyDuration, Supplier<String> currentMemberId, Clock clock) {
+        this(stickyDuration, Duration.ZERO, null, currentMemberId, clock);
+    }
+
+    public ReplicationRoutingDataSource(Duration stickyDuration, Duration stickyCheckInterval,
+                                        StringRedisTemplate redisTemplate,
+                                        Supplier<String> currentMemberId, Clock clock) {
+        this.stickyDuration = stickyDuration;
+        this.stickyCheckIntervalMillis = stickyCheckInterval.toMillis();
+        this.redisTemplate = redisTemplate;
+        this.currentMemberId = currentMemberId;
+        this.clock = clock;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String memberId = currentMemberId.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 쓰기 트랜잭션이 커밋되면 해당 회원의 조회를 잠시 primary 로 고정
+            if (memberId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        markSticky(memberId);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (Boolean.TRUE.equals(PRIMARY_READ.get())) {
+            return PRIMARY;
+        }
+        return memberId != null && isSticky(memberId) ? PRIMARY : REPLICA;
+    }
+
+    /**
+     * 조회를 primary 로 보냄 (고정 표시는 남기지 않음)
+     * 라우팅은 첫 쿼리 시점에 정해지므로 query 안에서 새로 시작한 트랜잭션에만 적용됨.
+     */
+    public static <T> T onPrimary(Supplier<T> query) {
+        Boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READ.remove();
+            } else {
+                PRIMARY_READ.set(previous);
+            }
+        }
+    }
+
+    private void markSticky(String memberId) {
+        putSticky(memberId, clock.millis() + stickyDuration.toMillis());
+        notStickyUntil.remove(memberId);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().set(STICKY_KEY_PREFIX + memberId, "1", stickyDuration);
+            } catch (Exception e) {
+                log.warn("primary 고정 표시 저장 실패 : {}, {}", memberId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isSticky(String memberId) {
+        Long until = stickyUntil.get(memberId);
+        if (until != null) {
+            if (until > clock.millis()) {
+                return true;
+            }
+            stickyUntil.remove(memberId, until);
+        }
+        return isStickyElsewhere(memberId);
+    }
+
+    // 다른 인스턴스에서 커밋한 쓰기의 고정 표시 (PTTL 1회로 남은 시간까지 확인)
+    private boolean isStickyElsewhere(String memberId) {
+        if (redisTemplate == null) {
+            return false;
+        }
+        long now = clock.millis();
+        Long checkedUntil = notStickyUntil.get(memberId);
+        if (checkedUntil != null) {
+            if (checkedUntil > now) {
+                return false;
+            }
+            notStickyUntil.remove(memberId, checkedUntil);
+        }
+        Long remaining;
+        try {
+            remaining = redisTemplate.getExpire(STICKY_KEY_PREFIX + memberId, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.debug("primary 고정 표시 조회 실패 : {}, {}", memberId, e.getMessage());
+            remaining = null;
+        }
+        if (remaining != null && remaining > 0) {
+            putSticky(memberId, now + remaining);
+            return true;
+        }
+        // 없거나 조회 실패 -> 잠시 다시 확인하지 않음
+        if (stickyCheckIntervalMillis > 0) {
+            if (notStickyUntil.size() > STICKY_CLEANUP_THRESHOLD) {
+                notStickyUntil.values().removeIf(until -> until <= now);
+            }
+            notStickyUntil.put(memberId, now + stickyCheckIntervalMillis);
+        }
+        return false;
+    }
+
+    private void putSticky(String memberId, long until) {
+        if (stickyUntil.size() > STICKY_CLEANUP_THRESHOLD) {
+            long now = clock.millis();
+            stickyUntil.values().removeIf(value -> value <= now);
+        }
+        stickyUntil.put(memberId, until);
+    }
+
+    private static String authenticatedMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
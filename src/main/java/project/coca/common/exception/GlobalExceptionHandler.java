@@ -37,4 +37,11 @@ public class GlobalExceptionHandler {
         log.warn("Constraint violation: {}", errorMessage);
         return ApiResponse.fail(ErrorCode.BAD_REQUEST, errorMessage);
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ApiResponse<?> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("Too many requests: {}", e.getMessage());
+        return ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS, e.getMessage());
+    }
+}
@@ -0,0 +1,10 @@
+package project.coca.common.exception;
+
+/**
+ * 처리 한도를 넘은 요청 (429)
+ */
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,89 @@
+package project.coca.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import project.coca.common.ApiResponse;
+import project.coca.common.error.ErrorCode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 요청 수 제한 filter
+ * JwtFilter 다음에 동작하며, 인증된 요청은 회원 id, 아니면 IP 기준으로 규칙별 bucket 에서 token 을 소모함.
+ * token 이 부족하면 429 와 Retry-After 헤더로 응답
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 요청에 적용할 subject (회원 id 또는 IP)
+     */
+    public static String subjectOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && authentication.getName() != null) {
+            return "member:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (!matches(rule, request.getMethod(), path)) {
+                continue;
+            }
+            Optional<Duration> retryAfter = rateLimiter.tryConsume(rule, subjectOf(request), rule.getCost());
+            if (retryAfter.isPresent()) {
+                log.debug("요청 수 제한 : {}, {}", rule.getName(), path);
+                reject(response, retryAfter.get());
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Rule rule, String method, String path) {
+        if (!rule.getMethods().isEmpty() && rule.getMethods().stream().noneMatch(method::equalsIgnoreCase)) {
+            return false;
+        }
+        return rule.getPatterns().stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    private void reject(HttpServletResponse response, Duration retryAfter) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")));
+    }
+}
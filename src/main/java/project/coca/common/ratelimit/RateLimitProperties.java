@@ -0,0 +1,76 @@
+package project.coca.common.ratelimit;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 요청 수 제한 설정 (회원 / 엔드포인트별 token bucket)
+ * 설정하지 않으면 빈 일정 찾기와 파일 업로드 엔드포인트에 기본 규칙을 적용함.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    public static final String EMPTY_SCHEDULE_RULE = "empty-schedule";
+
+    private boolean enabled = true;
+    // 빈 일정 찾기 : 검색 기간 이 일수마다 token 1개 추가 소모
+    private int emptyScheduleDaysPerToken = 30;
+    private List<Rule> rules = defaultRules();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Rule {
+        // bucket 이름 (Redis key 에 사용)
+        private String name;
+        // 적용할 경로 (Ant 패턴)
+        private List<String> patterns = new ArrayList<>();
+        // 적용할 HTTP method, 비어있으면 전체
+        private List<String> methods = new ArrayList<>();
+        // bucket 최대 token 수
+        private int capacity;
+        // 초당 채워지는 token 수
+        private double refillPerSecond;
+        // 요청 1회 기본 소모 token 수
+        private int cost = 1;
+
+        public Rule(String name, List<String> patterns, List<String> methods,
+                    int capacity, double refillPerSecond, int cost) {
+            this.name = name;
+            this.patterns = patterns;
+            this.methods = methods;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.cost = cost;
+        }
+    }
+
+    /**
+     * 이름으로 규칙 조회
+     */
+    public Optional<Rule> findRule(String name) {
+        return rules.stream().filter(rule -> rule.getName().equals(name)).findFirst();
+    }
+
+    private static List<Rule> defaultRules() {
+        List<Rule> rules = new ArrayList<>();
+        rules.add(new Rule(EMPTY_SCHEDULE_RULE,
+                List.of("/api/commonscheduleController/findEmptyScheduleReq",
+                        "/api/commonscheduleController/memberScheduleReq"),
+                List.of(), 30, 0.5, 1));
+        rules.add(new Rule("upload",
+                List.of("/api/personal-schedule/add", "/api/personal-schedule/update",
+                        "/api/group-schedule/add", "/api/group-schedule/update",
+                        "/api/member/joinReq", "/api/member/update", "/api/s3",
+                        "/api/upload/slots", "/api/upload/multipart"),
+                List.of("POST", "PUT"), 20, 0.2, 1));
+        return rules;
+    }
+}
@@ -0,0 +1,113 @@
+package project.coca.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * token bucket 방식 요청 수 제한
+ * - Redis : rate:{규칙 이름}:{회원 id 또는 IP}, Lua script 로 채우기 / 소모를 원자적으로 처리 (모든 인스턴스 공유)
+ * - Redis 오류 시 인스턴스 메모리의 bucket 으로 판단
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+    private static final String KEY_PREFIX = "rate:";
+
+    /**
+     * 경과 시간만큼 token 을 채운 뒤 cost 만큼 소모
+     * KEYS[1] : bucket, ARGV[1] : 최대 token, ARGV[2] : 초당 채움, ARGV[3] : cost
+     * 반환 : {허용 여부(1/0), 재시도까지 남은 시간(ms)}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+                    "local rate = tonumber(ARGV[2]) " +
+                    "local cost = tonumber(ARGV[3]) " +
+                    "local time = redis.call('TIME') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+                    "local tokens = tonumber(bucket[1]) " +
+                    "local ts = tonumber(bucket[2]) " +
+                    "if tokens == nil or ts == nil then tokens = capacity ts = now end " +
+                    "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000) " +
+                    "local allowed = 0 " +
+                    "local retry = 0 " +
+                    "if tokens >= cost then tokens = tokens - cost allowed = 1 " +
+                    "else retry = math.ceil((cost - tokens) * 1000 / rate) end " +
+                    "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+                    "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000) " +
+                    "return {allowed, retry}", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, LocalBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public RateLimiter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * token 소모 시도
+     *
+     * @param rule    적용할 규칙
+     * @param subject 회원 id 또는 IP
+     * @param cost    소모할 token 수 (최대 token 수를 넘으면 최대 token 수로 제한)
+     * @return 거절되면 재시도까지 남은 시간, 허용되면 empty
+     */
+    public Optional<Duration> tryConsume(RateLimitProperties.Rule rule, String subject, int cost) {
+        int boundedCost = Math.max(1, Math.min(cost, rule.getCapacity()));
+        String key = KEY_PREFIX + rule.getName() + ":" + subject;
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(rule.getCapacity()), String.valueOf(rule.getRefillPerSecond()),
+                    String.valueOf(boundedCost));
+            if (result != null && result.size() == 2) {
+                boolean allowed = ((Number) result.get(0)).longValue() == 1;
+                return allowed ? Optional.empty() : Optional.of(Duration.ofMillis(((Number) result.get(1)).longValue()));
+            }
+        } catch (Exception e) {
+            log.warn("요청 수 제한 Redis 확인 실패, 로컬 bucket 사용 : {}", e.getMessage());
+        }
+        return localBuckets.get(key, k -> new LocalBucket(rule.getCapacity(), rule.getRefillPerSecond()))
+                .tryConsume(boundedCost);
+    }
+
+    /**
+     * Redis 를 쓸 수 없을 때 사용하는 인스턴스 메모리 bucket
+     */
+    private static class LocalBucket {
+        private final double capacity;
+        private final double refillPerMillis;
+        private double tokens;
+        private long updatedAt;
+
+        private LocalBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerMillis = refillPerSecond / 1000;
+            this.tokens = capacity;
+            this.updatedAt = System.currentTimeMillis();
+        }
+
+        private synchronized Optional<Duration> tryConsume(int cost) {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + Math.max(0, now - updatedAt) * refillPerMillis);
+            updatedAt = now;
+            if (tokens >= cost) {
+                tokens -= cost;
+                return Optional.empty();
+            }
+            return Optional.of(Duration.ofMillis((long) Math.ceil((cost - tokens) / refillPerMillis)));
+        }
+    }
+}
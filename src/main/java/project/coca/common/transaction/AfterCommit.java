@@ -0,0 +1,27 @@
+package project.coca.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행할 작업 등록
+ * 롤백된 변경이 외부 저장소(Redis 등)에 반영되지 않도록 커밋이 확정된 뒤에만 실행함.
+ * 트랜잭션 밖에서 호출되면 즉시 실행.
+ */
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package project.coca.domain.file;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * S3 파일 삭제 작업 (transactional outbox)
+ * 파일을 더 이상 참조하지 않게 된 트랜잭션 안에서 함께 저장되고, 커밋된 작업만 백그라운드에서 삭제됨.
+ * 처리 중인 작업은 nextAttemptAt 을 임대 만료 시각으로 미뤄, 처리하던 인스턴스가 죽어도 다시 처리됨.
+ */
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "IDX_S3_DELETE_TASK_NEXT_ATTEMPT", columnList = "NEXT_ATTEMPT_AT"))
+public class S3DeleteTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "S3_DELETE_TASK_ID_GENERATOR")
+    @TableGenerator(name = "S3_DELETE_TASK_ID_GENERATOR", table = "ID_GENERATOR",
+            pkColumnName = "SEQUENCE_NAME", valueColumnName = "NEXT_VAL",
+            pkColumnValue = "S3_DELETE_TASK", allocationSize = 50)
+    @Column(name = "S3_DELETE_TASK_ID")
+    private Long id;
+    @Column(name = "OBJECT_KEY", nullable = false, length = 1024)
+    private String objectKey;
+    @Column(name = "ATTEMPTS", nullable = false)
+    private int attempts;
+    @Column(name = "NEXT_ATTEMPT_AT", nullable = false)
+    private LocalDateTime nextAttemptAt;
+    @Column(name = "LAST_ERROR", length = 500)
+    private String lastError;
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+
+    public S3DeleteTask(String objectKey, LocalDateTime now) {
+        this.objectKey = objectKey;
+        this.attempts = 0;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    /**
+     * 처리 시작, 임대 만료 전까지 다른 worker 가 가져가지 않음
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+}
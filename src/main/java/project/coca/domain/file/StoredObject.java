@@ -0,0 +1,38 @@
+package project.coca.domain.file;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 해시(SHA-256)로 저장된 첨부파일 (S3 key : objects/{hash})
+ * 같은 파일은 한 번만 저장하고, 이 파일을 가리키는 첨부파일 행의 수를 refCount 로 관리함.
+ * refCount 가 0 이 되어도 행은 남겨두고(삭제 대기), S3 삭제 큐가 삭제함.
+ * - 삭제 큐는 짧은 트랜잭션으로 참조가 없는 행을 deleting 으로 표시하고, 트랜잭션 밖에서 S3 파일을 삭제한 뒤 행을 삭제함
+ * - deleting 행은 없는 것으로 취급하므로 참조를 추가할 수 없고, 같은 내용은 삭제가 끝난 뒤 다시 업로드함
+ * - 표시 전에 같은 내용이 다시 저장되면 refCount 가 다시 늘어나므로 파일은 삭제되지 않음
+ */
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoredObject {
+    @Id
+    @Column(name = "CONTENT_HASH", length = 64)
+    private String hash;
+    @Column(name = "FILE_SIZE", nullable = false)
+    private long size;
+    @Column(name = "REF_COUNT", nullable = false)
+    private long refCount;
+    @Column(name = "CREATED_AT", nullable = false)
+    private LocalDateTime createdAt;
+    // S3 파일 삭제 중 (참조 추가 불가)
+    @Column(name = "DELETING", nullable = false)
+    private boolean deleting;
+}
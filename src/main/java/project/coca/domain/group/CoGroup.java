@@ -5,10 +5,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import project.coca.domain.personal.Member;
 import project.coca.domain.request.GroupRequest;
 import project.coca.domain.tag.GroupTag;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,6 +20,8 @@ import java.util.List;
 @Entity
 @ToString
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "group")
 public class CoGroup {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,6 +33,9 @@ public class CoGroup {
     private String description;
     @Column(name = "PRIVATE_PASSWORD", length = 16)
     private String privatePassword;
+    // 삭제 시각. 값이 있으면 삭제 처리된 그룹이며, 연관 데이터는 PurgeService 가 정리함
+    @Column(name = "DELETED_AT")
+    private LocalDateTime deletedAt;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "GROUP_ADMIN_ID", nullable = false)
@@ -50,4 +58,8 @@ public class CoGroup {
 
     @OneToMany(mappedBy = "coGroup", cascade = CascadeType.ALL)
     private List<GroupTag> groupTags = new ArrayList<>();
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
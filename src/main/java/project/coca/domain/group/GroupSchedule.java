@@ -18,7 +18,10 @@ import java.util.List;
 @NoArgsConstructor
 public class GroupSchedule {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "GROUP_SCHEDULE_ID_GENERATOR")
+    @TableGenerator(name = "GROUP_SCHEDULE_ID_GENERATOR", table = "ID_GENERATOR",
+            pkColumnName = "SEQUENCE_NAME", valueColumnName = "NEXT_VAL",
+            pkColumnValue = "GROUP_SCHEDULE", allocationSize = 50)
     @Column(name = "GROUP_SCHEDULE_ID")
     private Long id;
 
@@ -13,7 +13,10 @@ import lombok.ToString;
 @NoArgsConstructor
 public class GroupScheduleAttachment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "GROUP_SCHEDULE_ATTACHMENT_ID_GENERATOR")
+    @TableGenerator(name = "GROUP_SCHEDULE_ATTACHMENT_ID_GENERATOR", table = "ID_GENERATOR",
+            pkColumnName = "SEQUENCE_NAME", valueColumnName = "NEXT_VAL",
+            pkColumnValue = "GROUP_SCHEDULE_ATTACHMENT", allocationSize = 50)
     @Column(name = "GROUP_SCHEDULE_ATTACHMENT_ID")
     private Long id;
     @Column(name = "FILE_NAME")
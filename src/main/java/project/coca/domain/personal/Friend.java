@@ -9,7 +9,7 @@ import lombok.ToString;
 @Getter
 @Setter
 @Entity
-@ToString
+@ToString(exclude = {"member", "opponent"})
 @NoArgsConstructor
 public class Friend {
     @Id
@@ -23,7 +23,7 @@ public class Friend {
     @JoinColumn(name = "MEMBER_ID", nullable = false)
     private Member member;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "OPPONENT_ID", nullable = false)
     private Member opponent;
 }
@@ -2,6 +2,8 @@ package project.coca.domain.personal;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import project.coca.domain.group.CoGroup;
 import project.coca.domain.group.GroupManager;
 import project.coca.domain.group.GroupMember;
@@ -10,6 +12,7 @@ import project.coca.domain.request.GroupRequest;
 import project.coca.domain.request.ScheduleRequest;
 import project.coca.domain.tag.Interest;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,6 +20,8 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 public class Member {
     @Id
     @Column(name = "MEMBER_ID", length = 16)
@@ -28,9 +33,16 @@ public class Member {
     private String userName;
     @Column(name = "PROFILE_IMG_PATH")
     private String profileImgPath;
+    // 현재 프로필 이미지의 썸네일 상태. null: 생성 전, true: 생성됨, false: 만들 수 없음 (기본 이미지, 지원하지 않는 형식)
+    @Column(name = "PROFILE_THUMBNAILED")
+    private Boolean profileThumbnailed;
 
     private String role = "USER";
 
+    // 탈퇴 시각. 값이 있으면 탈퇴 처리된 회원이며, 연관 데이터는 PurgeService 가 정리함
+    @Column(name = "DELETED_AT")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "member", cascade = CascadeType.ALL)
     private List<Interest> interests = new ArrayList<>();
 
@@ -92,4 +104,20 @@ public class Member {
         this.profileImgPath = profileImgPath;
         this.interests = interests;
     }
+
+    /**
+     * 프로필 이미지가 바뀌면 썸네일은 다시 생성해야 함
+     */
+    public void setProfileImgPath(String profileImgPath) {
+        this.profileImgPath = profileImgPath;
+        this.profileThumbnailed = null;
+    }
+
+    public boolean hasProfileThumbnails() {
+        return Boolean.TRUE.equals(profileThumbnailed);
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
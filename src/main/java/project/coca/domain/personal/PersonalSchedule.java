@@ -16,7 +16,10 @@ import java.util.List;
 @AllArgsConstructor
 public class PersonalSchedule {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "PERSONAL_SCHEDULE_ID_GENERATOR")
+    @TableGenerator(name = "PERSONAL_SCHEDULE_ID_GENERATOR", table = "ID_GENERATOR",
+            pkColumnName = "SEQUENCE_NAME", valueColumnName = "NEXT_VAL",
+            pkColumnValue = "PERSONAL_SCHEDULE", allocationSize = 50)
     @Column(name = "PERSONAL_SCHEDULE_ID")
     private Long id;
 
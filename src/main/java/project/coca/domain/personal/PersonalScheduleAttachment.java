@@ -11,7 +11,10 @@ import lombok.*;
 @AllArgsConstructor
 public class PersonalScheduleAttachment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "PERSONAL_SCHEDULE_ATTACHMENT_ID_GENERATOR")
+    @TableGenerator(name = "PERSONAL_SCHEDULE_ATTACHMENT_ID_GENERATOR", table = "ID_GENERATOR",
+            pkColumnName = "SEQUENCE_NAME", valueColumnName = "NEXT_VAL",
+            pkColumnValue = "PERSONAL_SCHEDULE_ATTACHMENT", allocationSize = 50)
     @Column(name = "PERSONAL_SCHEDULE_ATTACHMENT_ID")
     private Long id;
     @Column(name = "FILE_NAME", nullable = false)
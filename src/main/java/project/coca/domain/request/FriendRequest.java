@@ -17,12 +17,14 @@ import java.time.LocalDateTime;
 @ToString
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)  // 감사 기능 활성화
+@Table(indexes = @Index(name = "IDX_FRIEND_REQUEST_INBOX", columnList = "RECEIVER_ID, REQUEST_STATUS, CREATED_AT"))
 public class FriendRequest {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "FRIEND_REQUEST_ID")
     private Long id;
     @Enumerated(EnumType.STRING)
+    @Column(name = "REQUEST_STATUS")
     private RequestStatus requestStatus;
     @CreatedDate
     @Column(updatable = false, name = "CREATED_AT")
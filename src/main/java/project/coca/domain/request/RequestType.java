@@ -0,0 +1,11 @@
+package project.coca.domain.request;
+
+/**
+ * 요청 종류
+ * 통합 수신함에서 생성일시가 같은 요청끼리의 정렬 순서로도 사용 (선언 순서)
+ */
+public enum RequestType {
+    FRIEND,
+    GROUP,
+    SCHEDULE
+}
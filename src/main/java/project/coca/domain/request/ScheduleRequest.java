@@ -17,12 +17,17 @@ import java.time.LocalDateTime;
 @ToString
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)  // 감사 기능 활성화
+@Table(indexes = @Index(name = "IDX_SCHEDULE_REQUEST_INBOX", columnList = "RECEIVER_ID, REQUEST_STATUS, CREATED_AT"))
 public class ScheduleRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "SCHEDULE_REQUEST_ID_GENERATOR")
+    @TableGenerator(name = "SCHEDULE_REQUEST_ID_GENERATOR", table = "ID_GENERATOR",
+            pkColumnName = "SEQUENCE_NAME", valueColumnName = "NEXT_VAL",
+            pkColumnValue = "SCHEDULE_REQUEST", allocationSize = 50)
     @Column(name = "SCHEDULE_REQUEST_ID")
     private Long id;
     @Enumerated(EnumType.STRING)
+    @Column(name = "REQUEST_STATUS")
     private RequestStatus requestStatus;
     @CreatedDate
     @Column(updatable = false, name = "CREATED_AT")
@@ -14,7 +14,10 @@ import project.coca.domain.personal.Member;
 @NoArgsConstructor
 public class Interest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "INTEREST_ID_GENERATOR")
+    @TableGenerator(name = "INTEREST_ID_GENERATOR", table = "ID_GENERATOR",
+            pkColumnName = "SEQUENCE_NAME", valueColumnName = "NEXT_VAL",
+            pkColumnValue = "INTEREST", allocationSize = 50)
     @Column(name = "INTEREST_ID")
     private Long id;
 
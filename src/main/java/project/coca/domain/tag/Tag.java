@@ -2,6 +2,10 @@ package project.coca.domain.tag;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -11,6 +15,9 @@ import java.util.List;
 @Entity
 @ToString
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tag")
+@NaturalIdCache(region = "tag-natural-id")
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +25,7 @@ public class Tag {
     private Long id;
     @Column(name = "FIELD", length = 10, nullable = false)
     private String field;
+    @NaturalId
     @Column(name = "NAME", length = 10, nullable = false)
     private String name;
 
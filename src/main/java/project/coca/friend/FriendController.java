@@ -2,6 +2,7 @@ package project.coca.friend;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import project.coca.common.ApiResponse;
 import project.coca.common.error.ErrorCode;
@@ -10,7 +11,9 @@ import project.coca.domain.personal.Friend;
 import project.coca.domain.personal.PersonalSchedule;
 import project.coca.friend.response.FriendResponse;
 import project.coca.friend.response.FriendScheduleResponse;
+import project.coca.friend.response.FriendWeekScheduleResponse;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
@@ -45,21 +48,40 @@ public class FriendController {
         }
     }
 
+    /**
+     * 32-1. 전체 친구 주간 일정 조회
+     *
+     * @param memberId 회원 id(String) 필요
+     * @param date     조회할 주에 속한 날짜, 없으면 오늘
+     * @return : 친구별 월요일 ~ 일요일 일정 목록
+     */
+    @GetMapping("/schedule/week/memberId/{memberId}")
+    public ApiResponse<List<FriendWeekScheduleResponse>> getFriendsWeekSchedule(
+            @PathVariable String memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        log.info("find friends week schedule memberId {} date {}", memberId, date);
+        try {
+            List<FriendWeekScheduleResponse> data = friendService
+                    .findFriendsWeekSchedule(memberId, date == null ? LocalDate.now() : date);
+            return ApiResponse.response(ResponseCode.OK, data);
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
     /**
      * 33. 친구 목록 조회
      *
      * @param memberId 회원 id(String) 필요
-     * @return : 친구 id(Long), 친구 이름, 친구 프로필 사진 경로
+     * @return : 친구 id(Long), 친구 닉네임, 친구 이름, 친구 프로필 사진 경로
      */
     @GetMapping("/list/memberId/{memberId}")
     public ApiResponse<List<FriendResponse>> getFriendList(@PathVariable String memberId) {
         log.info("get friend list memberId {}", memberId);
         try {
-            List<Friend> friends = friendService.findFriends(memberId);
-            List<FriendResponse> data = friends
-                    .stream()
-                    .map(FriendResponse::of)
-                    .collect(Collectors.toList());
+            List<FriendResponse> data = friendService.findFriends(memberId);
             return ApiResponse.response(ResponseCode.OK, data);
         } catch (NoSuchElementException e) {
             return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
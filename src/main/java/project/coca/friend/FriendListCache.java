@@ -0,0 +1,39 @@
+package project.coca.friend;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 친구 목록 캐시 무효화
+ * 캐시 매니저가 트랜잭션을 인식하므로 실제 삭제는 커밋 이후에 수행됨.
+ */
+@Component
+@RequiredArgsConstructor
+public class FriendListCache {
+    public static final String CACHE_NAME = "friends";
+
+    private final CacheManager cacheManager;
+    private final FriendRepository friendRepository;
+
+    /**
+     * 회원들의 친구 목록 캐시 삭제
+     */
+    public void evict(String... memberIds) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        for (String memberId : memberIds) {
+            cache.evict(memberId);
+        }
+    }
+
+    /**
+     * 해당 회원이 포함된 다른 회원들의 친구 목록 캐시 삭제 (이름, 프로필 사진 변경 / 탈퇴 시)
+     */
+    public void evictListsContaining(String memberId) {
+        evict(friendRepository.findMemberIdsByOpponentId(memberId).toArray(String[]::new));
+    }
+}
@@ -1,8 +1,10 @@
 package project.coca.friend;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.personal.Friend;
 import project.coca.domain.personal.Member;
+import project.coca.friend.response.FriendResponse;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +13,20 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
     List<Friend> findAllByMember(Member member);
 
     Optional<Friend> findByMemberAndOpponent(Member member, Member opponent);
+
+    /**
+     * 친구 목록 projection (친구 회원 엔티티를 로딩하지 않고 한 번에 조회)
+     */
+    @Query("SELECT new project.coca.friend.response.FriendResponse(" +
+            "f.id, o.id, f.opponentNickname, o.userName, o.profileImgPath, o.profileThumbnailed) " +
+            "FROM Friend f JOIN f.opponent o " +
+            "WHERE f.member.id = :memberId AND o.deletedAt IS NULL " +
+            "ORDER BY f.id")
+    List<FriendResponse> findFriendResponsesByMemberId(String memberId);
+
+    /**
+     * 해당 회원을 친구로 둔 회원 id 목록 (친구 목록 캐시 무효화용)
+     */
+    @Query("SELECT f.member.id FROM Friend f WHERE f.opponent.id = :opponentId")
+    List<String> findMemberIdsByOpponentId(String opponentId);
 }
@@ -1,16 +1,25 @@
 package project.coca.friend;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.coca.common.datasource.PrimaryReader;
 import project.coca.domain.personal.Friend;
 import project.coca.domain.personal.Member;
 import project.coca.domain.personal.PersonalSchedule;
+import project.coca.friend.response.FriendResponse;
+import project.coca.friend.response.FriendScheduleResponse;
+import project.coca.friend.response.FriendScheduleRow;
+import project.coca.friend.response.FriendWeekScheduleResponse;
 import project.coca.member.MemberRepository;
+import project.coca.schedule.PersonalScheduleRepository;
 import project.coca.schedule.PersonalScheduleService;
+import project.coca.schedule.WeekScheduleCache;
 
 import java.time.LocalDate;
-import java.util.List;
-import java.util.NoSuchElementException;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -18,11 +27,22 @@ public class FriendService {
     private final FriendRepository friendRepository;
     private final PersonalScheduleService personalScheduleService;
     private final MemberRepository memberRepository;
+    private final FriendListCache friendListCache;
+    private final PersonalScheduleRepository personalScheduleRepository;
+    private final WeekScheduleCache weekScheduleCache;
+    private final PrimaryReader primaryReader;
 
-    public FriendService(FriendRepository friendRepository, PersonalScheduleService personalScheduleService, MemberRepository memberRepository) {
+    public FriendService(FriendRepository friendRepository, PersonalScheduleService personalScheduleService,
+                         MemberRepository memberRepository, FriendListCache friendListCache,
+                         PersonalScheduleRepository personalScheduleRepository, WeekScheduleCache weekScheduleCache,
+                         PrimaryReader primaryReader) {
         this.friendRepository = friendRepository;
         this.personalScheduleService = personalScheduleService;
         this.memberRepository = memberRepository;
+        this.friendListCache = friendListCache;
+        this.personalScheduleRepository = personalScheduleRepository;
+        this.weekScheduleCache = weekScheduleCache;
+        this.primaryReader = primaryReader;
     }
 
     /**
@@ -40,6 +60,7 @@ public class FriendService {
         friend2.setOpponentNickname(member1.getUserName());
         friendRepository.save(friend);
         friendRepository.save(friend2);
+        friendListCache.evict(member1.getId(), member2.getId());
     }
 
     /**
@@ -47,6 +68,7 @@ public class FriendService {
      *
      * @return : 일정 start, end, 일정 제목
      */
+    @Transactional(readOnly = true)
     public List<PersonalSchedule> findFriendSchedule(Long friendId) {
         Friend friend = friendRepository.findById(friendId)
                 .orElseThrow(() -> new NoSuchElementException("친구가 조회되지 않습니다."));
@@ -56,15 +78,69 @@ public class FriendService {
         return personalScheduleService.findPersonalSchedulesByDates(friend.getOpponent().getId(), sevenDaysAgo, sevenDaysLater);
     }
 
+    /**
+     * 32-1. 전체 친구 주간 일정 조회 (공개 일정은 표시, 비공개 일정은 "비공개 일정"으로 제목 변환)
+     * 친구별 주간 일정은 캐시에서 일괄 조회하고, 없는 친구만 한 번의 IN 쿼리로 조회
+     *
+     * @param memberId 회원 id
+     * @param date     조회할 주에 속한 날짜
+     * @return : 친구별 월요일 ~ 일요일 일정 목록
+     */
+    @Transactional(readOnly = true)
+    public List<FriendWeekScheduleResponse> findFriendsWeekSchedule(String memberId, LocalDate date) {
+        // 1. 회원 검증
+        if (!memberRepository.existsById(memberId)) {
+            throw new NoSuchElementException("회원이 조회되지 않습니다.");
+        }
+        // 2. 친구 목록 조회
+        List<FriendResponse> friends = friendRepository.findFriendResponsesByMemberId(memberId);
+        if (friends.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> friendMemberIds = friends.stream()
+                .map(FriendResponse::getFriendMemberId)
+                .distinct()
+                .toList();
+        // 3. 캐시된 주간 일정 조회
+        LocalDate weekStart = WeekScheduleCache.weekStartOf(date);
+        Map<String, List<FriendScheduleResponse>> schedules = weekScheduleCache.getAll(friendMemberIds, weekStart);
+        // 4. 캐시에 없는 친구의 일정만 한 번에 조회 후 캐시에 저장 (캐시할 값이므로 primary 에서 조회)
+        List<String> misses = friendMemberIds.stream()
+                .filter(id -> !schedules.containsKey(id))
+                .toList();
+        if (!misses.isEmpty()) {
+            Map<String, List<FriendScheduleResponse>> loaded = new HashMap<>();
+            misses.forEach(id -> loaded.put(id, new ArrayList<>()));
+            List<FriendScheduleRow> rows = primaryReader.read(() -> personalScheduleRepository.findFriendSchedulesByDateRange(
+                    misses, weekStart.atStartOfDay(), weekStart.plusDays(6).atTime(LocalTime.of(23, 59, 59))));
+            for (FriendScheduleRow row : rows) {
+                loaded.get(row.getMemberId()).add(row.toResponse());
+            }
+            weekScheduleCache.putAll(loaded, weekStart);
+            schedules.putAll(loaded);
+        }
+        // 5. 친구별로 묶어서 반환
+        return friends.stream()
+                .map(friend -> FriendWeekScheduleResponse.of(friend, weekStart, schedules.get(friend.getFriendMemberId())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 33. 친구 목록 조회
+     * projection 으로 한 번에 조회하고 회원별로 캐시
+     * 캐시에 저장할 값이므로 replica 가 아닌 primary 에서 조회 (친구 수락 직후 이전 목록이 캐시되지 않도록)
      *
-     * @return : 친구 id(Long), 친구 이름,
+     * @return : 친구 id(Long), 친구 닉네임, 친구 이름, 친구 프로필 사진 경로
      */
-    public List<Friend> findFriends(String memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
-        return friendRepository.findAllByMember(member);
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = FriendListCache.CACHE_NAME, key = "#memberId")
+    public List<FriendResponse> findFriends(String memberId) {
+        return primaryReader.read(() -> {
+            if (!memberRepository.existsById(memberId)) {
+                throw new NoSuchElementException("회원이 조회되지 않습니다.");
+            }
+            return friendRepository.findFriendResponsesByMemberId(memberId);
+        });
     }
 
     /**
@@ -77,6 +153,7 @@ public class FriendService {
                 .orElseThrow(() -> new NoSuchElementException("친구 관계가 조회되지 않습니다."));
         friend.setOpponentNickname(updateFriend.getOpponentNickname());
         friendRepository.save(friend);
+        friendListCache.evict(friend.getMember().getId());
     }
 
     /**
@@ -94,5 +171,6 @@ public class FriendService {
                 .orElseThrow(() -> new NoSuchElementException("상대방이 조회되지 않습니다."));
         friendRepository.delete(findFriend);
         friendRepository.delete(opponentFriend);
+        friendListCache.evict(member.getId(), opponent.getId());
     }
 }
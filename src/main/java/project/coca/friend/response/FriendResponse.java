@@ -1,23 +1,37 @@
 package project.coca.friend.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import project.coca.domain.personal.Friend;
+import project.coca.member.ProfileImages;
 
 @Builder
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class FriendResponse {
     private Long friendId; // 친구관계 고유 아이디
     private String friendMemberId;
-    private String friendName;
-    private String friendProfileImagePath;
+    private String friendName; // 친구에게 붙인 닉네임
+    private String friendUserName; // 친구 회원 이름
+    private String friendProfileImagePath; // 목록용 썸네일 url (썸네일이 없으면 원본)
+
+    // JPQL 생성자 projection 용, 인자 순서 변경 시 FriendRepository 쿼리도 함께 수정
+    public FriendResponse(Long friendId, String friendMemberId, String friendName, String friendUserName,
+                          String profileImgPath, Boolean profileThumbnailed) {
+        this(friendId, friendMemberId, friendName, friendUserName,
+                ProfileImages.url(profileImgPath, profileThumbnailed, ProfileImages.LIST_SIZE));
+    }
 
     public static FriendResponse of(Friend friend) {
         return FriendResponse.builder()
                 .friendId(friend.getId())
                 .friendMemberId(friend.getOpponent().getId())
                 .friendName(friend.getOpponentNickname())
-                .friendProfileImagePath(friend.getOpponent().getProfileImgPath())
+                .friendUserName(friend.getOpponent().getUserName())
+                .friendProfileImagePath(ProfileImages.listUrl(friend.getOpponent()))
                 .build();
     }
 }
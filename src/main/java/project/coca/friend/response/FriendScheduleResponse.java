@@ -1,13 +1,17 @@
 package project.coca.friend.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import project.coca.domain.personal.PersonalSchedule;
 
 import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class FriendScheduleResponse {
     private String title;
     private LocalDateTime startDateTime;
@@ -0,0 +1,29 @@
+package project.coca.friend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 친구 주간 일정 projection (일정 소유 회원 id 포함)
+ * 비공개 일정의 제목은 쿼리에서 "비공개 일정"으로 변환됨.
+ */
+@Getter
+@AllArgsConstructor
+public class FriendScheduleRow {
+    private String memberId;
+    private String title;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private Boolean isPrivate;
+
+    public FriendScheduleResponse toResponse() {
+        return FriendScheduleResponse.builder()
+                .title(title)
+                .startDateTime(startDateTime)
+                .endDateTime(endDateTime)
+                .isPrivate(isPrivate)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package project.coca.friend.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class FriendWeekScheduleResponse {
+    private Long friendId; // 친구관계 고유 아이디
+    private String friendMemberId;
+    private String friendName;
+    private String friendProfileImagePath;
+    private LocalDate weekStart;
+    private List<FriendScheduleResponse> schedules;
+
+    public static FriendWeekScheduleResponse of(FriendResponse friend, LocalDate weekStart, List<FriendScheduleResponse> schedules) {
+        return FriendWeekScheduleResponse.builder()
+                .friendId(friend.getFriendId())
+                .friendMemberId(friend.getFriendMemberId())
+                .friendName(friend.getFriendName())
+                .friendProfileImagePath(friend.getFriendProfileImagePath())
+                .weekStart(weekStart)
+                .schedules(schedules)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package project.coca.group;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.group.CoGroup;
 import project.coca.domain.group.GroupMember;
@@ -13,7 +14,10 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     @Query("select m from GroupMember m where m.coGroup.id = :groupId and m.groupMember.id = :memberId")
     Optional<GroupMember> checkMemberInGroup(Long groupId, String memberId);
 
-    void deleteGroupMemberByCoGroupAndGroupMember(CoGroup coGroup, Member member);
+    // 하트(GroupScheduleHeart)는 cascade 되지 않으므로 먼저 삭제해야 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GroupMember gm where gm.coGroup = :coGroup and gm.groupMember = :member")
+    int deleteGroupMemberByCoGroupAndGroupMember(CoGroup coGroup, Member member);
 
     // 파라미터 : Member 클래스의 groupMember 임.(네이밍 오류..)
     List<GroupMember> findAllByCoGroup(CoGroup group);
@@ -1,6 +1,7 @@
 package project.coca.group;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -17,8 +18,12 @@ import project.coca.domain.tag.GroupTag;
 import project.coca.domain.tag.Tag;
 import project.coca.group.response.GroupDetailSearchResponse;
 import project.coca.member.MemberRepository;
-import project.coca.member.TagRepository;
+import project.coca.member.TagCatalog;
+import project.coca.member.response.TagResponse;
+import project.coca.purge.GroupDeletedEvent;
+import project.coca.schedule.GroupScheduleHeartRepository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -30,9 +35,11 @@ public class GroupService {
     private final MemberRepository memberRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final GroupManagerRepository groupManagerRepository;
-    private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
     private final GroupTagRepository groupTagRepository;
     private final GroupNoticeRepository groupNoticeRepository;
+    private final GroupScheduleHeartRepository groupScheduleHeartRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Integer pageSize = 8;
 
@@ -41,20 +48,25 @@ public class GroupService {
                         MemberRepository memberRepository,
                         GroupMemberRepository groupMemberRepository,
                         GroupManagerRepository groupManagerRepository,
-                        TagRepository tagRepository, GroupTagRepository groupTagRepository,
-                        GroupNoticeRepository groupNoticeRepository) {
+                        TagCatalog tagCatalog, GroupTagRepository groupTagRepository,
+                        GroupNoticeRepository groupNoticeRepository,
+                        GroupScheduleHeartRepository groupScheduleHeartRepository,
+                        ApplicationEventPublisher eventPublisher) {
         this.groupRepository = groupRepository;
         this.memberRepository = memberRepository;
         this.groupMemberRepository = groupMemberRepository;
         this.groupManagerRepository = groupManagerRepository;
-        this.tagRepository = tagRepository;
+        this.tagCatalog = tagCatalog;
         this.groupTagRepository = groupTagRepository;
         this.groupNoticeRepository = groupNoticeRepository;
+        this.groupScheduleHeartRepository = groupScheduleHeartRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * 07. 캘린더 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<CoGroup> findJoinedGroups(String memberId) {
         // 1. 회원 검증
         memberRepository.findById(memberId)
@@ -72,6 +84,7 @@ public class GroupService {
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
         // 2. 그룹 조회
         CoGroup findGroup = groupRepository.findById(group.getId())
+                .filter(g -> !g.isDeleted())
                 .orElseThrow(() -> new NoSuchElementException("그룹이 조회되지 않습니다."));
         // 3. 이미 참가중인가
         List<CoGroup> findJoinedGroups = groupRepository.findByGroupMemberId(findMember.getId());
@@ -109,7 +122,8 @@ public class GroupService {
             // 그룹 매니저는 매니저 권한 반납 후 탈퇴
             groupManagerRepository.deleteByManagerIdAndGroupId(member.getId(), group.getId());
         }
-        // 3. 그룹 멤버 삭제 수행 (그룹에서 탈퇴)
+        // 3. 그룹 멤버의 하트 삭제 후 그룹 멤버 삭제 수행 (그룹에서 탈퇴)
+        groupScheduleHeartRepository.deleteAllByGroupIdAndMemberId(group.getId(), member.getId());
         groupMemberRepository.deleteGroupMemberByCoGroupAndGroupMember(group, member);
     }
 
@@ -139,10 +153,15 @@ public class GroupService {
 
         // 그룹 태그가 있는 경우
         if (groupTags != null && !groupTags.isEmpty()) {
-            for (GroupTag groupTag : groupTags) {
+            List<Tag> tags = tagCatalog.getReferences(groupTags.stream()
+                    .map(groupTag -> groupTag.getTag().getId())
+                    .toList());
+            groupTags = new ArrayList<>();
+            for (Tag tag : tags) {
+                GroupTag groupTag = new GroupTag();
                 groupTag.setCoGroup(savedGroup);
-                Tag tag = tagRepository.findById(groupTag.getTag().getId()).get();
                 groupTag.setTag(tag);
+                groupTags.add(groupTag);
             }
             savedGroup.setGroupTags(groupTags);
         }
@@ -153,6 +172,7 @@ public class GroupService {
     /**
      * 22-1. 그룹 검색 by 그룹명
      */
+    @Transactional(readOnly = true)
     public Page<CoGroup> findGroupsByNameLike(String groupName, Integer pageNumber) {
         // 페이지 세팅
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
@@ -169,10 +189,11 @@ public class GroupService {
     /**
      * 22-2. 그룹 검색 by 태그
      */
+    @Transactional(readOnly = true)
     public Page<CoGroup> findGroupsByTag(String tagName, Integer pageNumber) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
         try {
-            Tag tag = tagRepository.findByName(tagName).orElseThrow(() -> new NoSuchElementException("태그가 조회되지 않습니다."));
+            TagResponse tag = tagCatalog.findByName(tagName).orElseThrow(() -> new NoSuchElementException("태그가 조회되지 않습니다."));
             Page<CoGroup> resultPage = groupRepository
                     .findByTagNameOrderByGroupMembersDesc(tag.getName(), pageable);
             return resultPage;
@@ -184,10 +205,12 @@ public class GroupService {
     /**
      * 23. 그룹 상세 정보 조회
      */
+    @Transactional(readOnly = true)
     public GroupDetailSearchResponse findGroupById(String memberId, Long groupId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
         CoGroup group = groupRepository.findById(groupId)
+                .filter(g -> !g.isDeleted())
                 .orElseThrow(() -> new NoSuchElementException("그룹이 조회되지 않습니다."));
         return GroupDetailSearchResponse.of(group, member);
     }
@@ -203,6 +226,7 @@ public class GroupService {
                             List<Member> managersToMember) {
         // 1. 그룹 조회
         CoGroup findGroup = groupRepository.findById(updateGroup.getId())
+                .filter(g -> !g.isDeleted())
                 .orElseThrow(() -> new NoSuchElementException("그룹이 조회되지 않습니다."));
         System.out.println("그룹조회완");
         // 2. admin 인가?
@@ -241,11 +265,12 @@ public class GroupService {
         // 4. 그룹 태그 모두 삭제 후 재세팅
         groupTagRepository.deleteAllByCoGroupId(findGroup.getId());
         List<GroupTag> newGroupTags = new ArrayList<>();
-        for (Tag groupTag : groupTags) {
+        List<Tag> tags = tagCatalog.getReferences(groupTags.stream()
+                .map(Tag::getId)
+                .toList());
+        for (Tag tag : tags) {
             GroupTag newGroupTag = new GroupTag();
             newGroupTag.setCoGroup(findGroup);
-            Tag tag = tagRepository.findById(groupTag.getId())
-                    .orElseThrow(() -> new NoSuchElementException("태그가 조회되지 않습니다."));
             newGroupTag.setTag(tag);
             newGroupTags.add(newGroupTag);
         }
@@ -280,12 +305,14 @@ public class GroupService {
     /**
      * 25-a. Admin을 위한 그룹 상세 정보 조회
      */
+    @Transactional(readOnly = true)
     public CoGroup findGroupForAdmin(CoGroup group, Member admin) {
         // 1. 회원 조회
         Member findMember = memberRepository.findById(admin.getId())
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
         // 2. 그룹 조회
         CoGroup findGroup = groupRepository.findById(group.getId())
+                .filter(g -> !g.isDeleted())
                 .orElseThrow(() -> new NoSuchElementException("그룹이 조회되지 않습니다."));
         // 3. 권한 검증 / 최종 : 그룹 리턴
         if (!findGroup.getAdmin().getId().equals(admin.getId())) {
@@ -298,12 +325,15 @@ public class GroupService {
 
     /**
      * 26. 그룹 삭제
+     * 삭제 표시만 하고, 연관 데이터 및 S3 파일 삭제는 커밋 이후 PurgeService 가 수행
      */
     public void deleteGroup(String adminId, Long groupId) {
         CoGroup findGroup = groupRepository.findById(groupId)
+                .filter(g -> !g.isDeleted())
                 .orElseThrow(() -> new NoSuchElementException("그룹이 조회되지 않습니다."));
         if (findGroup.getAdmin().getId().equals(adminId)) {
-            groupRepository.deleteById(findGroup.getId());
+            findGroup.setDeletedAt(LocalDateTime.now());
+            eventPublisher.publishEvent(new GroupDeletedEvent(findGroup.getId()));
         } else {
             throw new ValidationFailureException("삭제 권한이 없습니다.");
         }
@@ -312,6 +342,7 @@ public class GroupService {
     /**
      * 28. 그룹 공지 조회
      */
+    @Transactional(readOnly = true)
     public GroupNotice findGroupNotice(String memberId, Long groupId) {
         CoGroup findGroup = groupRepository.findById(groupId)
                 .orElseThrow(() -> new NoSuchElementException("그룹이 조회되지 않습니다."));
@@ -326,6 +357,7 @@ public class GroupService {
     /**
      * a. 그룹 회원 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<GroupMember> findGroupMembers(String memberId, Long groupId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
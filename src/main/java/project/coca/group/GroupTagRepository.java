@@ -1,8 +1,17 @@
 package project.coca.group;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.tag.GroupTag;
 
 public interface GroupTagRepository extends JpaRepository<GroupTag, Long> {
-    void deleteAllByCoGroupId(Long groupId);
+    /**
+     * 그룹 태그 일괄 삭제 (단일 DELETE 문)
+     * 호출 측이 그룹 엔티티를 계속 사용하므로 영속성 컨텍스트는 비우지 않음.
+     * 그룹의 groupTags 컬렉션은 호출 측에서 새 컬렉션으로 교체해야 함.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from GroupTag gt where gt.coGroup.id = :groupId")
+    int deleteAllByCoGroupId(Long groupId);
 }
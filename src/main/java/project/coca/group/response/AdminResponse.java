@@ -3,6 +3,7 @@ package project.coca.group.response;
 import lombok.Builder;
 import lombok.Data;
 import project.coca.domain.personal.Member;
+import project.coca.member.ProfileImages;
 
 @Data
 @Builder
@@ -15,7 +16,7 @@ public class AdminResponse {
         return AdminResponse.builder()
                 .id(member.getId())
                 .userName(member.getUserName())
-                .profileImgPath(member.getProfileImgPath())
+                .profileImgPath(ProfileImages.listUrl(member))
                 .build();
     }
 }
@@ -3,6 +3,7 @@ package project.coca.group.response;
 import lombok.Builder;
 import lombok.Data;
 import project.coca.domain.group.GroupManager;
+import project.coca.member.ProfileImages;
 
 @Builder
 @Data
@@ -15,7 +16,7 @@ public class GroupManagerResponse {
         return GroupManagerResponse.builder()
                 .id(groupManager.getGroupManager().getId())
                 .userName(groupManager.getGroupManager().getUserName())
-                .profileImgPath(groupManager.getGroupManager().getProfileImgPath())
+                .profileImgPath(ProfileImages.listUrl(groupManager.getGroupManager()))
                 .build();
     }
 }
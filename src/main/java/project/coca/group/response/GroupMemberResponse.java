@@ -3,6 +3,7 @@ package project.coca.group.response;
 import lombok.Builder;
 import lombok.Data;
 import project.coca.domain.group.GroupMember;
+import project.coca.member.ProfileImages;
 
 @Builder
 @Data
@@ -15,7 +16,7 @@ public class GroupMemberResponse {
         return GroupMemberResponse.builder()
                 .id(groupMember.getGroupMember().getId())
                 .userName(groupMember.getGroupMember().getUserName())
-                .profileImgPath(groupMember.getGroupMember().getProfileImgPath())
+                .profileImgPath(ProfileImages.listUrl(groupMember.getGroupMember()))
                 .build();
     }
 }
@@ -1,8 +1,10 @@
 package project.coca.member;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
@@ -10,8 +12,10 @@ import org.springframework.web.multipart.MultipartFile;
 import project.coca.auth.jwt.JwtTokenProvider;
 import project.coca.auth.jwt.RefreshTokenDto;
 import project.coca.auth.jwt.TokenDto;
+import project.coca.auth.password.LoginAttemptLimiter;
 import project.coca.common.ApiResponse;
 import project.coca.common.error.ErrorCode;
+import project.coca.common.exception.TooManyRequestsException;
 import project.coca.common.success.ResponseCode;
 import project.coca.member.request.MemberJoinRequest;
 import project.coca.member.request.MemberLoginRequest;
@@ -29,6 +33,7 @@ import java.util.NoSuchElementException;
 public class MemberController {
     private final MemberService memberService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     /**
      * 회원 프로필 이미지 url 조회
@@ -68,6 +73,8 @@ public class MemberController {
         } catch (DuplicateKeyException e) {
             // RequestParam 데이터와 동일한 아이디의 회원이 있을 경우
             return ApiResponse.fail(ErrorCode.BAD_REQUEST, "동일한 아이디의 회원이 이미 존재합니다.");
+        } catch (TooManyRequestsException e) {
+            return ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS, e.getMessage());
         } catch (Exception e) {
             return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
         }
@@ -77,9 +84,14 @@ public class MemberController {
      * 로그인
      */
     @PostMapping("/login")
-    public ApiResponse<TokenDto> login(@RequestBody MemberLoginRequest loginMember) {
+    public ApiResponse<TokenDto> login(@RequestBody MemberLoginRequest loginMember, HttpServletRequest request) {
         try {
-            return ApiResponse.response(ResponseCode.OK, memberService.login(loginMember));
+            loginAttemptLimiter.checkAttempt(loginMember.getId(), request.getRemoteAddr());
+            TokenDto tokens = memberService.login(loginMember, request.getHeader(HttpHeaders.USER_AGENT));
+            loginAttemptLimiter.reset(loginMember.getId());
+            return ApiResponse.response(ResponseCode.OK, tokens);
+        } catch (TooManyRequestsException e) {
+            return ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS, e.getMessage());
         } catch (NoSuchElementException e) {
             return ApiResponse.fail(ErrorCode.BAD_REQUEST, "동일한 아이디의 회원이 이미 존재합니다.");
         } catch (BadCredentialsException e) {
@@ -97,9 +109,16 @@ public class MemberController {
      * 개인정보조회 전 비밀번호 확인
      */
     @PostMapping("/checkPassword")
-    public ApiResponse<Boolean> checkAccount(@RequestBody MemberLoginRequest loginMember) {
+    public ApiResponse<Boolean> checkAccount(@RequestBody MemberLoginRequest loginMember, HttpServletRequest request) {
         try {
-            return ApiResponse.response(ResponseCode.OK, memberService.checkMember(loginMember));
+            loginAttemptLimiter.checkAttempt(loginMember.getId(), request.getRemoteAddr());
+            Boolean matched = memberService.checkMember(loginMember);
+            if (matched) {
+                loginAttemptLimiter.reset(loginMember.getId());
+            }
+            return ApiResponse.response(ResponseCode.OK, matched);
+        } catch (TooManyRequestsException e) {
+            return ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS, e.getMessage());
         } catch (Exception e) {
             return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
         }
@@ -121,10 +140,13 @@ public class MemberController {
      * 회원탈퇴
      */
     @PostMapping("/withdrawalReq")
-    public ApiResponse<Boolean> closeAccount(@RequestBody MemberLoginRequest withdrawalMember) {
+    public ApiResponse<Boolean> closeAccount(@RequestBody MemberLoginRequest withdrawalMember, HttpServletRequest request) {
         try {
+            loginAttemptLimiter.checkAttempt(withdrawalMember.getId(), request.getRemoteAddr());
             //true면 정상 삭제, false면 무언가에 의해 삭제 안됨
             return ApiResponse.response(ResponseCode.OK, memberService.closeAccount(withdrawalMember));
+        } catch (TooManyRequestsException e) {
+            return ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS, e.getMessage());
         } catch (NoSuchElementException e) {
             // RequestParam 데이터에 조회되지 않는 데이터 있는 경우
             return ApiResponse.fail(ErrorCode.NOT_FOUND, "조회되지 않는 데이터가 포함되어 있습니다.");
@@ -166,6 +188,8 @@ public class MemberController {
             return ApiResponse.response(ResponseCode.OK, updateResult);
         } catch (IllegalArgumentException | NullPointerException e) {
             return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (TooManyRequestsException e) {
+            return ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS, e.getMessage());
         } catch (NoSuchElementException e) {
             return ApiResponse.fail(ErrorCode.NOT_FOUND, "조회되지 않는 데이터가 포함되어있습니다.");
         } catch (Exception e) {
@@ -1,9 +1,18 @@
 package project.coca.member;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.personal.Member;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, String> {
+    /**
+     * 업로드한 프로필 이미지의 썸네일이 아직 생성되지 않은 회원 (탈퇴 회원 제외)
+     */
+    @Query("SELECT m FROM Member m WHERE m.profileThumbnailed IS NULL AND m.deletedAt IS NULL " +
+            "AND m.profileImgPath LIKE CONCAT(:prefix, '%')")
+    List<Member> findProfileThumbnailPending(String prefix, Pageable pageable);
 }
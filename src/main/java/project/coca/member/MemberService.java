@@ -1,8 +1,10 @@
 package project.coca.member;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -16,19 +18,26 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import project.coca.aop.ExeTimer;
 import project.coca.auth.jwt.*;
+import project.coca.common.transaction.AfterCommit;
 import project.coca.domain.personal.Member;
 import project.coca.domain.tag.Interest;
 import project.coca.domain.tag.Tag;
+import project.coca.friend.FriendListCache;
 import project.coca.member.request.MemberJoinRequest;
 import project.coca.member.request.MemberLoginRequest;
 import project.coca.member.request.MemberUpdateRequest;
 import project.coca.member.response.InterestForTag;
+import project.coca.purge.MemberDeletedEvent;
+import project.coca.schedule.S3DeleteQueue;
 import project.coca.schedule.S3Service;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
 
 
 @Service
@@ -37,7 +46,7 @@ import java.util.NoSuchElementException;
 @Slf4j
 public class MemberService {
     private final MemberRepository memberRepository;
-    private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
     private final InterestRepository interestRepository;
     private final JwtRepository jwtRepository;
     private final JwtProperties jwtProperties;
@@ -45,6 +54,12 @@ public class MemberService {
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FriendListCache friendListCache;
+    private final SessionCache sessionCache;
+    private final RevokedTokens revokedTokens;
+    private final JwtService jwtService;
+    private final S3DeleteQueue s3DeleteQueue;
     private final String DEFAULT_PROFILE_IMAGE_PATH = "DEFAULT_PROFILE_IMG.jpg";
     @Value("${spring.cloud.aws.s3.url}")
     private String s3Url;
@@ -55,6 +70,7 @@ public class MemberService {
      * @param memberId
      * @return 회원 프로필 이미지 url
      */
+    @Transactional(readOnly = true)
     public String readProfileUrl(String memberId) {
         Member check = memberRepository.findById(memberId)
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
@@ -68,6 +84,7 @@ public class MemberService {
      * @param id
      * @return 사용 가능(유니크) : true / 사용 불가(중복) : false
      */
+    @Transactional(readOnly = true)
     public Boolean isUsable(String id) {
         if (id == null || id.isEmpty()) {
             return false;
@@ -79,28 +96,26 @@ public class MemberService {
      * 로그인
      *
      * @param loginMember
+     * @param device      로그인 기기 (User-Agent)
      * @return TokenDto
      */
     @ExeTimer
-    public TokenDto login(MemberLoginRequest loginMember) {
+    public TokenDto login(MemberLoginRequest loginMember, String device) {
         // Authentication 획득
         Authentication authentication = getMemberAuthentication(loginMember.getId(), loginMember.getPassword());
         // username 추출
         String username = authentication.getName();
         // roles 추천
         List<String> roles = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
-        // token 생성
-        String accessToken = jwtTokenProvider.createAccessToken(username);
-        String refreshToken = jwtTokenProvider.createRefreshToken(username);
-        log.info("AET : {},\nRET : {}", jwtProperties.getAccessExpirationTime(), jwtProperties.getRefreshExpirationTime());
-        // token 저장
-        jwtRepository.setValue(accessToken, new UserSession(username, roles), jwtProperties.getAccessExpirationTime());
-        jwtRepository.setValue(refreshToken, username, jwtProperties.getRefreshExpirationTime());
-
-        UserSession session = jwtRepository.getSession(accessToken);
-        log.info("로그인 후 세션 :{}", session.toString());
+        // token 생성 (로그인마다 새 세션 id)
+        String sessionId = UUID.randomUUID().toString();
+        TokenDto tokens = new TokenDto(jwtTokenProvider.createAccessToken(username, roles, sessionId),
+                jwtTokenProvider.createRefreshToken(username, sessionId));
+        // token 저장 및 세션 목록 등록 (Redis 왕복 1회)
+        jwtRepository.saveTokens(jwtService.newSessionInfo(sessionId, tokens, device), new UserSession(username, roles),
+                jwtProperties.getAccessExpirationTime(), jwtProperties.getRefreshExpirationTime());
         // 인증 정보를 기반으로 JWT DTO 반환
-        return new TokenDto(accessToken, refreshToken);
+        return tokens;
     }
 
     /**
@@ -110,6 +125,7 @@ public class MemberService {
      * @return 정상 입력 시 true, 비밀번호 오류 시 false
      * @throws AuthenticationException if authentication fails
      */
+    @Transactional(readOnly = true)
     public Boolean checkMember(MemberLoginRequest loginMember) {
         try {
             getMemberAuthentication(loginMember.getId(), loginMember.getPassword());
@@ -143,14 +159,36 @@ public class MemberService {
      */
     public Boolean logout(String accessToken, String refreshToken) {
         try {
-            jwtRepository.deleteValue(accessToken);
-            jwtRepository.deleteValue(refreshToken);
+            Claims claims = accessToken == null ? null : jwtTokenProvider.getClaimsIgnoringExpiration(accessToken);
+            if (claims != null) {
+                // 토큰과 세션 목록 항목을 함께 삭제
+                jwtRepository.deleteSession(claims.getSubject(),
+                        claims.get(JwtTokenProvider.SESSION_ID_CLAIM, String.class), accessToken, refreshToken);
+            } else {
+                jwtRepository.deleteValue(accessToken);
+                jwtRepository.deleteValue(refreshToken);
+            }
+            sessionCache.invalidate(accessToken);
+            revokedTokens.revoke(accessToken);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * 커밋 이후 모든 기기 로그아웃 (비밀번호 변경, 회원 탈퇴)
+     */
+    private void logoutAllAfterCommit(String memberId) {
+        AfterCommit.run(() -> {
+            try {
+                jwtService.logoutAll(memberId);
+            } catch (Exception e) {
+                log.warn("모든 기기 로그아웃 실패 : {}, {}", memberId, e.getMessage());
+            }
+        });
+    }
+
     /**
      * 관심사 정보 설정
      *
@@ -162,10 +200,11 @@ public class MemberService {
         List<Interest> memberInterest = new ArrayList<>();
 
         if (interestId != null && !interestId.isEmpty()) {
-            for (InterestForTag interest : interestId) {
-                Tag tag = tagRepository.findById(interest.getTagId())
-                        .orElseThrow(() -> new NoSuchElementException("존재하지 않는 관심사입니다."));
-
+            // 태그 목록을 카탈로그에서 한 번에 검증
+            List<Long> tagIds = interestId.stream()
+                    .map(InterestForTag::getTagId)
+                    .toList();
+            for (Tag tag : tagCatalog.getReferences(tagIds)) {
                 memberInterest.add(new Interest(member, tag));
             }
         }
@@ -200,9 +239,11 @@ public class MemberService {
         // 프로필 이미지 업로드
         if (joinMember.getIsDefaultImage()) {
             member.setProfileImgPath(s3Url + DEFAULT_PROFILE_IMAGE_PATH);
+            member.setProfileThumbnailed(false);
         } else {
             String savedUrl = s3Service.uploadProfileImage(profileImage, member.getId());
             member.setProfileImgPath(savedUrl);
+            eventPublisher.publishEvent(new ProfileImageChangedEvent(member.getId(), savedUrl));
         }
         Member join = memberRepository.save(member);
 
@@ -214,6 +255,8 @@ public class MemberService {
      * 회원 탈퇴
      *
      * @param withdrawalMember
+     * 탈퇴 표시만 하고, 연관 데이터 및 S3 파일 삭제는 커밋 이후 PurgeService 가 수행
+     *
      * @return 삭제 성공하면 true 실패하면 false
      * @throws AuthenticationException
      */
@@ -223,8 +266,11 @@ public class MemberService {
 
         getMemberAuthentication(withdrawalMember.getId(), withdrawalMember.getPassword());
 
-        memberRepository.delete(check);
-        return !memberRepository.existsById(withdrawalMember.getId());
+        check.setDeletedAt(LocalDateTime.now());
+        friendListCache.evictListsContaining(check.getId());
+        logoutAllAfterCommit(check.getId());
+        eventPublisher.publishEvent(new MemberDeletedEvent(check.getId()));
+        return true;
     }
 
     /**
@@ -234,12 +280,58 @@ public class MemberService {
      * @return
      * @throws AuthenticationException
      */
+    @Transactional(readOnly = true)
     public Member getMemberInfo(MemberLoginRequest member) throws AuthenticationException {
         Member inquiryMember = memberRepository.findById(member.getId())
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
         return inquiryMember;
     }
 
+    /**
+     * presigned url 로 업로드를 마친 프로필 이미지로 변경
+     * 이전에 업로드한 프로필 이미지와 썸네일은 커밋 이후 삭제, 새 이미지의 썸네일은 커밋 이후 생성
+     *
+     * @param memberId 회원 id
+     * @param url      업로드된 프로필 이미지 url
+     * @return Member
+     */
+    public Member updateProfileImage(String memberId, String url) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
+        String before = member.getProfileImgPath();
+        if (Objects.equals(before, url)) {
+            return member;
+        }
+        member.setProfileImgPath(url);
+        friendListCache.evictListsContaining(member.getId());
+        if (s3Service.isUploadedProfileImage(before)) {
+            s3DeleteQueue.enqueue(ProfileImages.withThumbnails(before));
+        }
+        eventPublisher.publishEvent(new ProfileImageChangedEvent(member.getId(), url));
+        return member;
+    }
+
+    /**
+     * 프로필 썸네일 생성 결과 반영
+     *
+     * @param memberId 회원 id
+     * @param url      썸네일을 만든 프로필 이미지 url
+     * @param created  썸네일을 저장했으면 true, 지원하지 않는 이미지라 만들 수 없으면 false
+     * @return 회원이 아직 이 이미지를 쓰고 있으면 true, 그 사이 이미지를 바꿨거나 탈퇴했으면 false
+     */
+    public boolean markProfileThumbnails(String memberId, String url, boolean created) {
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null || member.isDeleted() || !Objects.equals(member.getProfileImgPath(), url)) {
+            return false;
+        }
+        member.setProfileThumbnailed(created);
+        if (created) {
+            // 목록에 원본 대신 썸네일 url 이 나가도록 캐시 삭제
+            friendListCache.evictListsContaining(memberId);
+        }
+        return true;
+    }
+
     /**
      * 회원정보수정
      *
@@ -252,9 +344,13 @@ public class MemberService {
         // 회원 정보 조회
         Member member = memberRepository.findById(newInfo.getId())
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
+        String beforeUserName = member.getUserName();
+        String beforeProfileImgPath = member.getProfileImgPath();
         // password 설정
         if (newInfo.getPassword() != null && !newInfo.getPassword().isEmpty() && !newInfo.getPassword().isBlank()) {
             member.setPassword(passwordEncoder.encode(newInfo.getPassword()));
+            // 비밀번호 변경 시 모든 기기 로그아웃
+            logoutAllAfterCommit(member.getId());
         }
         // 회원 닉네임 설정
         member.setUserName(newInfo.getUserName());
@@ -278,14 +374,27 @@ public class MemberService {
         } else if (newInfo.getProfileImageUrl().equals(s3Url + DEFAULT_PROFILE_IMAGE_PATH)) {
             // url이 디폴트 이미지 url과 동일하면 디폴트 이미지
             member.setProfileImgPath(s3Url + DEFAULT_PROFILE_IMAGE_PATH);
+            member.setProfileThumbnailed(false);
         } else if (!newInfo.getProfileImageUrl().equals(member.getProfileImgPath())) {
             // 본인의 이전 url과 다른 url일 경우
             String savedUrl = s3Service.uploadProfileImage(profileImage, member.getId());
             member.setProfileImgPath(savedUrl);
+            eventPublisher.publishEvent(new ProfileImageChangedEvent(member.getId(), savedUrl));
         }   // url이 같으면 그냥 pass
 
+        // 업로드했던 이전 프로필 이미지와 썸네일은 커밋 이후 삭제
+        if (!Objects.equals(beforeProfileImgPath, member.getProfileImgPath())
+                && s3Service.isUploadedProfileImage(beforeProfileImgPath)) {
+            s3DeleteQueue.enqueue(ProfileImages.withThumbnails(beforeProfileImgPath));
+        }
+
         // 최종 save
         Member check = memberRepository.save(member);
+        // 이름이나 프로필 사진이 바뀌면 이 회원이 포함된 친구 목록 캐시 삭제
+        if (!Objects.equals(beforeUserName, check.getUserName())
+                || !Objects.equals(beforeProfileImgPath, check.getProfileImgPath())) {
+            friendListCache.evictListsContaining(check.getId());
+        }
 
         return check;
     }
@@ -296,6 +405,7 @@ public class MemberService {
      * @param memberId
      * @return List<InterestForTag>
      */
+    @Transactional(readOnly = true)
     public List<InterestForTag> getMemberTags(String memberId) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
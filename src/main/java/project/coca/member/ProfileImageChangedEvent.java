@@ -0,0 +1,14 @@
+package project.coca.member;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드한 프로필 이미지로 변경 완료 이벤트 (커밋 이후 썸네일 생성 시작)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProfileImageChangedEvent {
+    private final String memberId;
+    private final String url;
+}
@@ -0,0 +1,81 @@
+package project.coca.member;
+
+import project.coca.domain.personal.Member;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로필 이미지 썸네일 url 규칙
+ * - 업로드된 프로필 이미지는 원본 key 뒤에 _{크기} 를 붙인 정사각형 썸네일을 함께 저장함 (profile-images/{id}_128 등)
+ * - 썸네일이 아직 없으면 원본 url 을 그대로 사용
+ */
+public final class ProfileImages {
+    public static final int SMALL = 64;
+    public static final int MEDIUM = 128;
+    public static final int LARGE = 256;
+    // 큰 크기부터 (작은 썸네일은 바로 위 크기의 썸네일에서 축소)
+    public static final List<Integer> SIZES = List.of(LARGE, MEDIUM, SMALL);
+    // 친구, 그룹 회원, 요청 목록에 쓰는 크기
+    public static final int LIST_SIZE = MEDIUM;
+
+    private ProfileImages() {
+    }
+
+    /**
+     * @param profileImgPath     원본 프로필 이미지 url
+     * @param profileThumbnailed 썸네일 생성 여부
+     * @param size               썸네일 크기
+     * @return 썸네일 url, 썸네일이 없으면 원본 url
+     */
+    public static String url(String profileImgPath, Boolean profileThumbnailed, int size) {
+        if (profileImgPath == null || !Boolean.TRUE.equals(profileThumbnailed)) {
+            return profileImgPath;
+        }
+        return thumbnailOf(profileImgPath, size);
+    }
+
+    /**
+     * 목록용 프로필 이미지 url
+     */
+    public static String listUrl(Member member) {
+        return url(member.getProfileImgPath(), member.getProfileThumbnailed(), LIST_SIZE);
+    }
+
+    /**
+     * 크기별 프로필 이미지 url (썸네일이 없으면 모두 원본 url)
+     */
+    public static Map<Integer, String> urls(Member member) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            urls.put(size, url(member.getProfileImgPath(), member.getProfileThumbnailed(), size));
+        }
+        return urls;
+    }
+
+    /**
+     * 원본 url 또는 key 에 대응하는 썸네일 url / key
+     */
+    public static String thumbnailOf(String original, int size) {
+        return original + "_" + size;
+    }
+
+    /**
+     * 원본 url 에 대응하는 모든 썸네일 url
+     */
+    public static List<String> thumbnails(String profileImgPath) {
+        return SIZES.stream().map(size -> thumbnailOf(profileImgPath, size)).toList();
+    }
+
+    /**
+     * 원본과 썸네일 url (프로필 이미지 삭제용)
+     */
+    public static List<String> withThumbnails(String profileImgPath) {
+        List<String> urls = new ArrayList<>();
+        urls.add(profileImgPath);
+        urls.addAll(thumbnails(profileImgPath));
+        return urls;
+    }
+}
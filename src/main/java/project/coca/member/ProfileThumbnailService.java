@@ -0,0 +1,233 @@
+package project.coca.member;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import project.coca.domain.personal.Member;
+import project.coca.schedule.S3DeleteQueue;
+import project.coca.schedule.S3Service;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로필 이미지 썸네일 생성
+ * <p>
+ * 업로드한 프로필 이미지로 바뀌면 커밋 이후 별도 executor 에서 원본을 읽어 정사각형 썸네일(ProfileImages.SIZES)을 원본 옆에 저장함.
+ * 썸네일이 생길 때까지는 원본 url 을 그대로 내려주고, 이벤트가 누락되었거나 실패한 회원(이전에 올린 이미지 포함)은 sweep 에서 다시 생성함.
+ */
+@Slf4j
+@Service
+public class ProfileThumbnailService {
+    // 디코딩 전에 확인하는 최대 픽셀 수 (작은 파일로 거대한 이미지를 만드는 경우 방지)
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private final S3Service s3Service;
+    private final S3DeleteQueue s3DeleteQueue;
+    private final MemberService memberService;
+    private final MemberRepository memberRepository;
+    private final TaskExecutor thumbnailExecutor;
+    private final long maxSourceSize;
+    private final float jpegQuality;
+    private final int sweepSize;
+    // sweep 이 대기 중이거나 생성 중인 회원을 다시 넣지 않도록 기록
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+    public ProfileThumbnailService(S3Service s3Service,
+                                   S3DeleteQueue s3DeleteQueue,
+                                   MemberService memberService,
+                                   MemberRepository memberRepository,
+                                   @Qualifier("thumbnailExecutor") TaskExecutor thumbnailExecutor,
+                                   @Value("${profile-image.thumbnail.max-source-size:20MB}") DataSize maxSourceSize,
+                                   @Value("${profile-image.thumbnail.jpeg-quality:0.85}") float jpegQuality,
+                                   @Value("${profile-image.thumbnail.sweep-size:50}") int sweepSize) {
+        this.s3Service = s3Service;
+        this.s3DeleteQueue = s3DeleteQueue;
+        this.memberService = memberService;
+        this.memberRepository = memberRepository;
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.maxSourceSize = maxSourceSize.toBytes();
+        this.jpegQuality = jpegQuality;
+        this.sweepSize = sweepSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileImageChanged(ProfileImageChangedEvent event) {
+        submit(() -> generate(event.getMemberId(), event.getUrl()));
+    }
+
+    /**
+     * 썸네일이 아직 없는 회원 재처리
+     */
+    @Scheduled(fixedDelayString = "${profile-image.thumbnail.fixed-delay:60000}",
+            initialDelayString = "${profile-image.thumbnail.initial-delay:60000}")
+    public void sweep() {
+        for (Member member : memberRepository.findProfileThumbnailPending(s3Service.profileImageUrlPrefix(),
+                PageRequest.of(0, sweepSize))) {
+            String memberId = member.getId();
+            String url = member.getProfileImgPath();
+            if (!inProgress.add(memberId)) {
+                continue;
+            }
+            boolean submitted = submit(() -> {
+                try {
+                    generate(memberId, url);
+                } finally {
+                    inProgress.remove(memberId);
+                }
+            });
+            if (!submitted) {
+                inProgress.remove(memberId);
+                return;
+            }
+        }
+    }
+
+    // executor 가 가득 차면 버림 (썸네일이 없는 동안은 원본을 쓰고, 다음 sweep 에서 다시 시도)
+    private boolean submit(Runnable task) {
+        try {
+            thumbnailExecutor.execute(task);
+            return true;
+        } catch (TaskRejectedException e) {
+            log.warn("프로필 썸네일 생성 대기열이 가득 참, 다음 sweep 에서 재시도");
+            return false;
+        }
+    }
+
+    /**
+     * 프로필 이미지의 썸네일 생성 후 회원에 반영
+     * 실패하면 썸네일 상태를 그대로 두어 다음 sweep 에서 재시도
+     */
+    void generate(String memberId, String url) {
+        if (!s3Service.isUploadedProfileImage(url)) {
+            return;
+        }
+        try {
+            boolean created = createThumbnails(url);
+            if (!memberService.markProfileThumbnails(memberId, url, created) && created) {
+                // 생성하는 동안 프로필 이미지가 바뀌었거나 탈퇴함 -> 방금 만든 썸네일은 참조되지 않음
+                s3DeleteQueue.enqueueNow(ProfileImages.thumbnails(url));
+            }
+        } catch (Exception e) {
+            log.warn("프로필 썸네일 생성 실패, 다음 sweep 에서 재시도 : {}, {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 썸네일을 저장했으면 true, 지원하지 않는 이미지이면 false
+     */
+    private boolean createThumbnails(String url) throws IOException {
+        String key = s3Service.keyOf(url);
+        BufferedImage image;
+        try {
+            image = read(s3Service.readObject(key, maxSourceSize));
+        } catch (IllegalArgumentException | NoSuchKeyException e) {
+            // 너무 크거나 없는 원본은 다시 시도해도 같으므로 만들 수 없는 이미지로 처리
+            image = null;
+        }
+        if (image == null) {
+            log.info("썸네일을 만들 수 없는 프로필 이미지 : {}", key);
+            return false;
+        }
+        boolean png = image.getColorModel().hasAlpha();
+        for (int size : ProfileImages.SIZES) {
+            // 큰 썸네일부터 만들고, 작은 썸네일은 바로 위 크기에서 축소
+            image = resize(image, size);
+            s3Service.putObject(ProfileImages.thumbnailOf(key, size), write(image, png),
+                    png ? MediaType.IMAGE_PNG_VALUE : MediaType.IMAGE_JPEG_VALUE);
+        }
+        return true;
+    }
+
+    /**
+     * @return 디코딩한 이미지, ImageIO 가 읽을 수 없는 형식이면 null
+     */
+    private BufferedImage read(byte[] content) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가운데를 정사각형으로 잘라 size 이하로 축소 (원본보다 크게 늘리지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나누어 축소함.
+     */
+    static BufferedImage resize(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage current = source.getSubimage(
+                (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+        int target = Math.min(size, side);
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        int currentSize = side;
+        do {
+            currentSize = Math.max(target, currentSize / 2);
+            BufferedImage scaled = new BufferedImage(currentSize, currentSize, type);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentSize, currentSize, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        } while (currentSize > target);
+        return current;
+    }
+
+    private byte[] write(BufferedImage image, boolean png) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (png) {
+            ImageIO.write(image, "png", bytes);
+            return bytes.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream outputStream = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(outputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,191 @@
+package project.coca.member;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import project.coca.common.ApiResponse;
+import project.coca.common.success.ResponseCode;
+import project.coca.domain.tag.Tag;
+import project.coca.member.response.TagResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 카탈로그
+ * 태그는 개수가 적고 거의 바뀌지 않으므로 전체를 메모리에 불변 맵으로 들고 있음.
+ * - 태그 id 목록 검증을 한 번의 조회로 처리하고, 연관관계에는 프록시(getReferenceById)만 사용
+ * - /api/tag/all 응답을 미리 직렬화해 두고 ETag 로 재검증
+ * 카탈로그에 없는 id 가 들어오면 한 번 다시 적재한 뒤 판단함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagCatalog {
+    private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 기동 시 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * 주기적으로 다시 적재 (다른 인스턴스에서 태그가 바뀐 경우 대비)
+     */
+    @Scheduled(initialDelayString = "${tag.catalog.refresh-delay:600000}",
+            fixedDelayString = "${tag.catalog.refresh-delay:600000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * DB 에서 태그 전체를 읽어 스냅샷 교체
+     * 내용이 바뀌지 않았다면 기존 스냅샷(과 ETag)을 그대로 유지함.
+     */
+    public synchronized void refresh() {
+        List<TagResponse> tags = tagRepository.findAll()
+                .stream()
+                .map(TagResponse::of)
+                .sorted(Comparator.comparing(TagResponse::getId))
+                .toList();
+        Snapshot next = Snapshot.of(tags, serialize(tags));
+
+        if (!next.getEtag().equals(snapshot.getEtag())) {
+            snapshot = next;
+            log.info("태그 카탈로그 적재 : {}개", tags.size());
+        }
+    }
+
+    /**
+     * 전체 태그 목록
+     */
+    public List<TagResponse> findAll() {
+        return snapshot.getTags();
+    }
+
+    /**
+     * 태그 이름으로 조회
+     */
+    public Optional<TagResponse> findByName(String name) {
+        return Optional.ofNullable(snapshot.getByName().get(name));
+    }
+
+    /**
+     * 태그 id 목록을 한 번에 검증하고 연관관계 설정용 참조로 변환
+     * 중복 id 는 한 번만 반영하며, 하나라도 없으면 예외
+     *
+     * @param tagIds 태그 id 목록
+     * @return 요청 순서대로의 Tag 참조 목록
+     */
+    public List<Tag> getReferences(Collection<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>(tagIds);
+        if (ids.contains(null)) {
+            throw new NoSuchElementException("태그가 조회되지 않습니다.");
+        }
+        if (!snapshot.containsAll(ids)) {
+            refresh();
+            if (!snapshot.containsAll(ids)) {
+                throw new NoSuchElementException("태그가 조회되지 않습니다.");
+            }
+        }
+        return ids.stream()
+                .map(tagRepository::getReferenceById)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 미리 직렬화된 /api/tag/all 응답 본문
+     */
+    public SerializedTags getSerializedTags() {
+        Snapshot current = snapshot;
+        return new SerializedTags(current.getBody(), current.getEtag());
+    }
+
+    private byte[] serialize(List<TagResponse> tags) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.response(ResponseCode.OK, tags));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("태그 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class SerializedTags {
+        private final byte[] body;
+        private final String etag;
+
+        /**
+         * If-None-Match 헤더가 현재 ETag 와 일치하는지 확인
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Getter
+    private static class Snapshot {
+        private static final Snapshot EMPTY = of(List.of(), "{}".getBytes(StandardCharsets.UTF_8));
+
+        private final List<TagResponse> tags;
+        private final Map<Long, TagResponse> byId;
+        private final Map<String, TagResponse> byName;
+        private final byte[] body;
+        private final String etag;
+
+        private Snapshot(List<TagResponse> tags, byte[] body) {
+            this.tags = List.copyOf(tags);
+            this.byId = tags.stream().collect(Collectors.toUnmodifiableMap(TagResponse::getId, Function.identity()));
+            this.byName = tags.stream().collect(Collectors.toUnmodifiableMap(TagResponse::getName, Function.identity()));
+            this.body = body;
+            this.etag = etagOf(body);
+        }
+
+        private static Snapshot of(List<TagResponse> tags, byte[] body) {
+            return new Snapshot(tags, body);
+        }
+
+        private boolean containsAll(Set<Long> ids) {
+            return byId.keySet().containsAll(ids);
+        }
+    }
+}
@@ -2,34 +2,41 @@ package project.coca.member;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import project.coca.domain.tag.Tag;
-import project.coca.common.ApiResponse;
-import project.coca.common.success.ResponseCode;
-import project.coca.member.response.TagResponse;
-
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
 @AllArgsConstructor
 @RequestMapping("/api/tag")
 public class TagController {
-    private final TagRepository tagRepository;
+    private final TagCatalog tagCatalog;
 
     /**
      * a. 모든 태그 조회
+     * 미리 직렬화된 응답을 그대로 내려주고, ETag 가 같으면 304 로 응답
      */
-    @GetMapping("/all")
-    public ApiResponse<List<TagResponse>> findGroupsByGroupName() {
-        List<Tag> tags = tagRepository.findAll();
-        List<TagResponse> data = tags
-                .stream()
-                .map(TagResponse::of)
-                .collect(Collectors.toList());
-        return ApiResponse.response(ResponseCode.OK, data);
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> findAllTags(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        TagCatalog.SerializedTags tags = tagCatalog.getSerializedTags();
+        if (tags.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(tags.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(tags.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(tags.getBody());
     }
 }
@@ -3,8 +3,5 @@ package project.coca.member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import project.coca.domain.tag.Tag;
 
-import java.util.Optional;
-
-public interface TagRepository extends JpaRepository<Tag, Long> {
-    Optional<Tag> findByName(String name);
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 }
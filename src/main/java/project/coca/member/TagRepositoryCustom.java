@@ -0,0 +1,13 @@
+package project.coca.member;
+
+import project.coca.domain.tag.Tag;
+
+import java.util.Optional;
+
+public interface TagRepositoryCustom {
+    /**
+     * 태그 이름(natural id)으로 조회
+     * 2차 캐시의 natural id region 을 사용하므로 반복 조회 시 DB 를 거치지 않음.
+     */
+    Optional<Tag> findByName(String name);
+}
@@ -0,0 +1,22 @@
+package project.coca.member;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+import project.coca.domain.tag.Tag;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class TagRepositoryCustomImpl implements TagRepositoryCustom {
+    private final EntityManager em;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Tag> findByName(String name) {
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(Tag.class)
+                .loadOptional(name);
+    }
+}
@@ -4,8 +4,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import project.coca.domain.personal.Member;
+import project.coca.member.ProfileImages;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Builder
@@ -15,6 +17,8 @@ public class MemberResponse {
     private String id;
     private String userName;
     private String profileImgPath;
+    // 크기(px)별 썸네일 url, 썸네일이 없으면 원본 url
+    private Map<Integer, String> profileThumbnails;
     private List<InterestForTag> interest;
 
     public static MemberResponse of(Member member) {
@@ -22,6 +26,7 @@ public class MemberResponse {
                 .id(member.getId())
                 .userName(member.getUserName())
                 .profileImgPath(member.getProfileImgPath())
+                .profileThumbnails(ProfileImages.urls(member))
                 .interest(member.getInterests().stream().map(InterestForTag::of)
                         .collect(Collectors.toList()))
                 .build();
@@ -0,0 +1,13 @@
+package project.coca.purge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 그룹 삭제 표시 완료 이벤트 (커밋 이후 백그라운드 정리 시작)
+ */
+@Getter
+@RequiredArgsConstructor
+public class GroupDeletedEvent {
+    private final Long groupId;
+}
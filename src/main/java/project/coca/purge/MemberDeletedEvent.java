@@ -0,0 +1,13 @@
+package project.coca.purge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 탈퇴 표시 완료 이벤트 (커밋 이후 백그라운드 정리 시작)
+ */
+@Getter
+@RequiredArgsConstructor
+public class MemberDeletedEvent {
+    private final String memberId;
+}
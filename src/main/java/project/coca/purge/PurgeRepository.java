@@ -0,0 +1,112 @@
+package project.coca.purge;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 삭제 표시된 회원, 그룹의 연관 데이터를 일괄 삭제하는 저장소
+ * 모든 메서드는 각자 하나의 트랜잭션으로 실행되며, 한 번에 chunkSize 건 이하만 삭제함.
+ * 삭제는 항상 "id 조회 -> id in (...) bulk delete" 순서로 수행하여 엔티티를 로딩하지 않음.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class PurgeRepository {
+    private final EntityManager em;
+
+    public List<String> findDeletedMemberIds(int limit) {
+        return em.createQuery("select m.id from Member m where m.deletedAt is not null order by m.deletedAt", String.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public List<Long> findDeletedGroupIds(int limit) {
+        return em.createQuery("select g.id from CoGroup g where g.deletedAt is not null order by g.deletedAt", Long.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 회원이 관리자인 그룹을 모두 삭제 표시하고 그룹 id 목록 반환
+     */
+    public List<Long> markGroupsDeletedByAdmin(String memberId) {
+        em.createQuery("update CoGroup g set g.deletedAt = :now where g.admin.id = :memberId and g.deletedAt is null")
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+        return em.createQuery("select g.id from CoGroup g where g.admin.id = :memberId", Long.class)
+                .setParameter("memberId", memberId)
+                .getResultList();
+    }
+
+    /**
+     * 조건에 맞는 엔티티를 최대 chunkSize 건 삭제
+     *
+     * @param entityName 엔티티 이름
+     * @param condition  별칭 e, 파라미터 :owner 를 사용하는 조건절
+     * @return 삭제된 건수 (0 이면 더 이상 삭제할 데이터 없음)
+     */
+    public int deleteChunk(String entityName, String condition, Object owner, int chunkSize) {
+        List<Long> ids = em.createQuery("select e.id from " + entityName + " e where " + condition, Long.class)
+                .setParameter("owner", owner)
+                .setMaxResults(chunkSize)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery("delete from " + entityName + " e where e.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    /**
+     * 조건에 맞는 첨부파일을 최대 chunkSize 건 삭제하고 S3 파일 경로 반환
+     *
+     * @return 삭제된 첨부파일의 경로, 경로가 없는 행은 null (비어있으면 더 이상 삭제할 데이터 없음)
+     */
+    public List<String> deleteAttachmentChunk(String entityName, String condition, Object owner, int chunkSize) {
+        List<Object[]> rows = em.createQuery("select e.id, e.filePath from " + entityName + " e where " + condition, Object[].class)
+                .setParameter("owner", owner)
+                .setMaxResults(chunkSize)
+                .getResultList();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        List<String> filePaths = new ArrayList<>();
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+            filePaths.add((String) row[1]);
+        }
+        em.createQuery("delete from " + entityName + " e where e.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return filePaths;
+    }
+
+    public String findProfileImgPath(String memberId) {
+        return em.createQuery("select m.profileImgPath from Member m where m.id = :memberId", String.class)
+                .setParameter("memberId", memberId)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    public int deleteMember(String memberId) {
+        return em.createQuery("delete from Member m where m.id = :memberId and m.deletedAt is not null")
+                .setParameter("memberId", memberId)
+                .executeUpdate();
+    }
+
+    public int deleteGroup(Long groupId) {
+        return em.createQuery("delete from CoGroup g where g.id = :groupId and g.deletedAt is not null")
+                .setParameter("groupId", groupId)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,194 @@
+package project.coca.purge;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.coca.member.ProfileImages;
+import project.coca.schedule.AttachmentStorage;
+import project.coca.schedule.S3DeleteQueue;
+import project.coca.schedule.S3Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴 회원, 삭제 그룹의 백그라운드 정리
+ * <p>
+ * 탈퇴/삭제 요청은 DELETED_AT 만 기록하고 즉시 반환되며, 실제 연관 데이터 삭제는 여기서 수행함.
+ * 커밋 직후 이벤트로 한 번 시도하고, 실패하거나 누락된 대상은 주기적인 sweep 으로 다시 정리함.
+ * 각 단계는 chunk 단위의 짧은 트랜잭션이므로 대량 데이터를 가진 회원도 락을 오래 잡지 않음.
+ * 이벤트와 sweep 모두 purgeExecutor 에서 실행하므로 정리가 오래 걸려도 다른 스케줄 작업을 막지 않음.
+ */
+@Slf4j
+@Service
+public class PurgeService {
+    // 회원 정리 순서 (FK 참조하는 쪽부터). 조건절의 :owner 는 회원 id
+    private static final String[][] MEMBER_STEPS = {
+            {"Interest", "e.member.id = :owner"},
+            {"PersonalSchedule", "e.member.id = :owner"},
+            {"GroupScheduleHeart", "e.groupMember.groupMember.id = :owner"},
+            {"GroupMember", "e.groupMember.id = :owner"},
+            {"GroupManager", "e.groupManager.id = :owner"},
+            {"Friend", "e.member.id = :owner or e.opponent.id = :owner"},
+            {"FriendRequest", "e.sender.id = :owner or e.receiver.id = :owner"},
+            {"GroupRequest", "e.sender.id = :owner or e.receiver.id = :owner"},
+            {"ScheduleRequest", "e.sender.id = :owner or e.receiver.id = :owner"}
+    };
+    // 그룹 정리 순서. 조건절의 :owner 는 그룹 id
+    private static final String[][] GROUP_STEPS = {
+            {"GroupScheduleHeart", "e.groupSchedule.coGroup.id = :owner or e.groupMember.coGroup.id = :owner"},
+            {"GroupSchedule", "e.coGroup.id = :owner"},
+            {"GroupMember", "e.coGroup.id = :owner"},
+            {"GroupManager", "e.coGroup.id = :owner"},
+            {"GroupRequest", "e.coGroup.id = :owner"},
+            {"GroupTag", "e.coGroup.id = :owner"},
+            {"GroupNotice", "e.coGroup.id = :owner"}
+    };
+
+    private final PurgeRepository purgeRepository;
+    private final S3DeleteQueue s3DeleteQueue;
+    private final S3Service s3Service;
+    private final AttachmentStorage attachmentStorage;
+    private final TaskExecutor purgeExecutor;
+    // 이벤트와 sweep 이 같은 대상을 동시에 정리하지 않도록 진행 중인 대상 기록
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    // sweep 이 executor 에 넣었지만 아직 시작되지 않은 대상 (같은 대상을 중복으로 넣지 않도록)
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    @Value("${purge.chunk-size:500}")
+    private int chunkSize;
+    @Value("${purge.sweep-size:20}")
+    private int sweepSize;
+
+    public PurgeService(PurgeRepository purgeRepository,
+                        S3DeleteQueue s3DeleteQueue,
+                        S3Service s3Service,
+                        AttachmentStorage attachmentStorage,
+                        @Qualifier("purgeExecutor") TaskExecutor purgeExecutor) {
+        this.purgeRepository = purgeRepository;
+        this.s3DeleteQueue = s3DeleteQueue;
+        this.s3Service = s3Service;
+        this.attachmentStorage = attachmentStorage;
+        this.purgeExecutor = purgeExecutor;
+    }
+
+    @Async("purgeExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMemberDeleted(MemberDeletedEvent event) {
+        purgeMember(event.getMemberId());
+    }
+
+    @Async("purgeExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGroupDeleted(GroupDeletedEvent event) {
+        purgeGroup(event.getGroupId());
+    }
+
+    /**
+     * 삭제 표시되었지만 아직 정리되지 않은 회원, 그룹 재처리
+     * 스케줄러 스레드에서는 대상만 조회하고 정리는 purgeExecutor 에 넘김
+     */
+    @Scheduled(fixedDelayString = "${purge.fixed-delay:60000}", initialDelayString = "${purge.initial-delay:60000}")
+    public void sweep() {
+        for (Long groupId : purgeRepository.findDeletedGroupIds(sweepSize)) {
+            if (!submit("group:" + groupId, () -> purgeGroup(groupId))) {
+                return;
+            }
+        }
+        for (String memberId : purgeRepository.findDeletedMemberIds(sweepSize)) {
+            if (!submit("member:" + memberId, () -> purgeMember(memberId))) {
+                return;
+            }
+        }
+    }
+
+    // executor 가 가득 차면 false (남은 대상은 다음 sweep 에서 재시도)
+    private boolean submit(String key, Runnable purge) {
+        if (inProgress.contains(key) || !queued.add(key)) {
+            return true;
+        }
+        try {
+            purgeExecutor.execute(() -> {
+                queued.remove(key);
+                purge.run();
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            queued.remove(key);
+            log.warn("정리 대기열이 가득 참, 다음 sweep 에서 재시도");
+            return false;
+        }
+    }
+
+    public void purgeMember(String memberId) {
+        String key = "member:" + memberId;
+        if (!inProgress.add(key)) {
+            return;
+        }
+        try {
+            // 1. 관리자로 있는 그룹 삭제 표시 후 정리
+            for (Long groupId : purgeRepository.markGroupsDeletedByAdmin(memberId)) {
+                purgeGroup(groupId);
+            }
+            // 2. 개인 일정 첨부파일 (참조가 남지 않은 S3 파일은 삭제 큐로)
+            drainAttachments("PersonalScheduleAttachment", "e.personalSchedule.member.id = :owner", memberId);
+            // 3. 나머지 연관 데이터
+            for (String[] step : MEMBER_STEPS) {
+                drain(step[0], step[1], memberId);
+            }
+            // 4. 회원 삭제 및 프로필 이미지, 썸네일 삭제 큐 등록
+            String profileImgPath = purgeRepository.findProfileImgPath(memberId);
+            if (purgeRepository.deleteMember(memberId) > 0 && s3Service.isUploadedProfileImage(profileImgPath)) {
+                s3DeleteQueue.enqueue(ProfileImages.withThumbnails(profileImgPath));
+            }
+            log.info("탈퇴 회원 정리 완료 : {}", memberId);
+        } catch (Exception e) {
+            log.error("탈퇴 회원 정리 실패, 다음 sweep 에서 재시도 : {}", memberId, e);
+        } finally {
+            inProgress.remove(key);
+        }
+    }
+
+    public void purgeGroup(Long groupId) {
+        String key = "group:" + groupId;
+        if (!inProgress.add(key)) {
+            return;
+        }
+        try {
+            drainAttachments("GroupScheduleAttachment", "e.groupSchedule.coGroup.id = :owner", groupId);
+            for (String[] step : GROUP_STEPS) {
+                drain(step[0], step[1], groupId);
+            }
+            purgeRepository.deleteGroup(groupId);
+            log.info("삭제 그룹 정리 완료 : {}", groupId);
+        } catch (Exception e) {
+            log.error("삭제 그룹 정리 실패, 다음 sweep 에서 재시도 : {}", groupId, e);
+        } finally {
+            inProgress.remove(key);
+        }
+    }
+
+    private void drain(String entityName, String condition, Object owner) {
+        while (purgeRepository.deleteChunk(entityName, condition, owner, chunkSize) > 0) {
+            // chunk 단위 트랜잭션 반복
+        }
+    }
+
+    private void drainAttachments(String entityName, String condition, Object owner) {
+        List<String> filePaths;
+        do {
+            filePaths = purgeRepository.deleteAttachmentChunk(entityName, condition, owner, chunkSize);
+            // 커밋된 chunk 의 참조 해제, 다른 일정이 참조하지 않는 파일만 삭제 큐에 등록
+            // (중간에 실패하면 참조 수가 남아 파일이 삭제되지 않는 쪽으로만 어긋남)
+            attachmentStorage.release(filePaths);
+        } while (!filePaths.isEmpty());
+    }
+}
@@ -1,16 +1,78 @@
 package project.coca.request;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.group.CoGroup;
 import project.coca.domain.personal.Member;
 import project.coca.domain.request.GroupRequest;
 import project.coca.domain.request.RequestStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface GroupRequestRepository extends JpaRepository<GroupRequest, Long> {
     List<GroupRequest> findByReceiverOrderByCreatedDateDesc(Member receiver);
 
+    /**
+     * 통합 수신함 첫 페이지 (생성일시, id 내림차순)
+     */
+    @Query("SELECT r FROM GroupRequest r JOIN FETCH r.sender JOIN FETCH r.coGroup " +
+            "WHERE r.receiver.id = :receiverId AND r.requestStatus IN :statuses " +
+            "ORDER BY r.createdDate DESC, r.id DESC")
+    List<GroupRequest> findInbox(String receiverId, Collection<RequestStatus> statuses, Pageable pageable);
+
+    /**
+     * 통합 수신함 다음 페이지 (keyset)
+     * (createdDate, id) 가 (at, idBound) 보다 뒤에 오는 요청만 조회
+     */
+    @Query("SELECT r FROM GroupRequest r JOIN FETCH r.sender JOIN FETCH r.coGroup " +
+            "WHERE r.receiver.id = :receiverId AND r.requestStatus IN :statuses " +
+            "AND (r.createdDate < :at OR (r.createdDate = :at AND r.id < :idBound)) " +
+            "ORDER BY r.createdDate DESC, r.id DESC")
+    List<GroupRequest> findInboxAfter(String receiverId, Collection<RequestStatus> statuses,
+                                        LocalDateTime at, Long idBound, Pageable pageable);
+
     Optional<GroupRequest> findByCoGroupAndReceiverAndRequestStatus(CoGroup group, Member receiver, RequestStatus requestStatus);
+
+    /**
+     * 수신 회원별 요청 수 (대기 요청 카운터 적재 / 보정용)
+     * 결과는 [receiverId, count] 배열 목록
+     */
+    @Query("SELECT r.receiver.id, COUNT(r) FROM GroupRequest r " +
+            "WHERE r.receiver.id IN :receiverIds AND r.requestStatus = :status " +
+            "GROUP BY r.receiver.id")
+    List<Object[]> countByReceiverIds(Collection<String> receiverIds, RequestStatus status);
+
+    /**
+     * 대기중인 요청만 처리 상태로 변경 (조건부 UPDATE)
+     * 같은 요청을 동시에 처리하면 한 쪽만 1건이 변경되므로, 변경된 경우에만 후속 처리와 카운터 감소를 수행해야 함.
+     *
+     * @return 변경된 행 수, 이미 처리된 요청이면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupRequest r SET r.requestStatus = :status " +
+            "WHERE r.id = :id AND r.requestStatus = project.coca.domain.request.RequestStatus.PENDING")
+    int updateStatusIfPending(Long id, RequestStatus status);
+
+    /**
+     * 대기중인 요청만 삭제 (조건부 DELETE)
+     * 처리와 동시에 삭제하면 한 쪽만 대기 상태를 바꾸므로, 1건이 삭제된 경우에만 대기 요청 카운터를 감소시켜야 함.
+     *
+     * @return 삭제된 행 수, 대기중이 아니면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GroupRequest r " +
+            "WHERE r.id = :id AND r.requestStatus = project.coca.domain.request.RequestStatus.PENDING")
+    int deleteIfPending(Long id);
+
+    /**
+     * 상태와 관계없이 요청 삭제 (이미 삭제된 요청이면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GroupRequest r WHERE r.id = :id")
+    int deleteRequest(Long id);
 }
@@ -0,0 +1,60 @@
+package project.coca.request;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import project.coca.domain.request.RequestType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 통합 수신함 keyset 커서
+ * 정렬 기준은 (생성일시 내림차순, 요청 종류 오름차순, id 내림차순)이며
+ * 마지막으로 내려준 요청의 세 값을 불투명한 문자열로 인코딩해서 주고받음.
+ */
+@Getter
+@RequiredArgsConstructor
+public class InboxCursor {
+    private final LocalDateTime createdDate;
+    private final RequestType type;
+    private final Long id;
+
+    /**
+     * 요청 종류별 id 상한
+     * 커서보다 뒤 순서인 종류는 같은 생성일시의 요청을 모두 포함하고,
+     * 앞 순서인 종류는 같은 생성일시의 요청을 모두 제외함.
+     */
+    public Long idBoundFor(RequestType target) {
+        int compared = target.compareTo(type);
+        if (compared > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (compared < 0) {
+            return Long.MIN_VALUE;
+        }
+        return id;
+    }
+
+    public String encode() {
+        String raw = createdDate + "|" + type.name() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static InboxCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new InboxCursor(LocalDateTime.parse(parts[0]), RequestType.valueOf(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
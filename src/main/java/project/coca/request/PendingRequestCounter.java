@@ -0,0 +1,207 @@
+package project.coca.request;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.coca.common.transaction.AfterCommit;
+import project.coca.domain.request.RequestStatus;
+import project.coca.domain.request.RequestType;
+import project.coca.schedule.ScheduleRequestRepository;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 회원별 대기중인 요청 수 카운터 (Redis hash)
+ * key : request:pending:{memberId}, field : 요청 종류, value : 대기 요청 수
+ * - 증감은 커밋 이후 HINCRBY 로 원자적으로 반영
+ * - 키가 없으면 증감하지 않고, 조회 시 DB(primary) 에서 다시 적재
+ * - 주기적으로 DB 와 비교해 어긋난 값을 보정
+ */
+@Slf4j
+@Component
+public class PendingRequestCounter {
+    private static final String KEY_PREFIX = "request:pending:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    /**
+     * 키가 있을 때만 증감하고, 0 미만으로 내려가지 않도록 보정
+     * KEYS[1] : 카운터 키, ARGV[1] : 필드, ARGV[2] : 증감값
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+                    "local value = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "if value < 0 then redis.call('HSET', KEYS[1], ARGV[1], 0) value = 0 end " +
+                    "return value", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FriendRequestRepository friendRequestRepository;
+    private final GroupRequestRepository groupRequestRepository;
+    private final ScheduleRequestRepository scheduleRequestRepository;
+    // 적재용 조회 (readOnly 가 아닌 새 트랜잭션이므로 replica 가 아닌 primary 에서 읽음)
+    private final TransactionTemplate primaryRead;
+    private final int reconcileBatchSize;
+
+    public PendingRequestCounter(StringRedisTemplate redisTemplate,
+                                 FriendRequestRepository friendRequestRepository,
+                                 GroupRequestRepository groupRequestRepository,
+                                 ScheduleRequestRepository scheduleRequestRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${request.counter.reconcile-batch-size:200}") int reconcileBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.friendRequestRepository = friendRequestRepository;
+        this.groupRequestRepository = groupRequestRepository;
+        this.scheduleRequestRepository = scheduleRequestRepository;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    /**
+     * 대기 요청 생성 (커밋 이후 +1)
+     */
+    public void increment(String memberId, RequestType type) {
+        AfterCommit.run(() -> add(memberId, type, 1));
+    }
+
+    /**
+     * 대기 요청 처리 / 삭제 (커밋 이후 -1)
+     */
+    public void decrement(String memberId, RequestType type) {
+        AfterCommit.run(() -> add(memberId, type, -1));
+    }
+
+    /**
+     * 회원의 요청 종류별 대기 요청 수
+     * Redis 에 없거나 Redis 오류 시 DB 에서 계산
+     * 호출한 트랜잭션이 readOnly(replica)여도 적재할 값은 primary 에서 읽음.
+     * replica 의 복제 지연으로 방금 처리된 요청이 빠진 값이 적재되면 이후 증감이 그 값에 누적되기 때문.
+     */
+    public Map<RequestType, Long> getCounts(String memberId) {
+        String key = KEY_PREFIX + memberId;
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+            if (!entries.isEmpty()) {
+                Map<RequestType, Long> counts = new EnumMap<>(RequestType.class);
+                for (RequestType type : RequestType.values()) {
+                    Object value = entries.get(type.name());
+                    counts.put(type, value == null ? 0L : Long.parseLong(value.toString()));
+                }
+                return counts;
+            }
+        } catch (Exception e) {
+            log.warn("대기 요청 카운터 조회 실패 : {}", e.getMessage());
+            return countFromDatabase(List.of(memberId)).get(memberId);
+        }
+        Map<RequestType, Long> counts = primaryRead.execute(status -> countFromDatabase(List.of(memberId)).get(memberId));
+        write(key, counts);
+        return counts;
+    }
+
+    /**
+     * Redis 카운터와 DB 를 비교해 어긋난 값 보정
+     * 이미 적재된 키만 대상으로 하고, 없는 키는 다음 조회 때 적재됨.
+     */
+    @Scheduled(fixedDelayString = "${request.counter.reconcile-delay:600000}",
+            initialDelayString = "${request.counter.reconcile-delay:600000}")
+    public void reconcile() {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(reconcileBatchSize)
+                .build();
+        int repaired = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> memberIds = new ArrayList<>();
+            while (cursor.hasNext()) {
+                memberIds.add(cursor.next().substring(KEY_PREFIX.length()));
+                if (memberIds.size() >= reconcileBatchSize) {
+                    repaired += reconcile(memberIds);
+                    memberIds.clear();
+                }
+            }
+            if (!memberIds.isEmpty()) {
+                repaired += reconcile(memberIds);
+            }
+        } catch (Exception e) {
+            log.warn("대기 요청 카운터 보정 실패 : {}", e.getMessage());
+            return;
+        }
+        if (repaired > 0) {
+            log.info("대기 요청 카운터 보정 : {}건", repaired);
+        }
+    }
+
+    private int reconcile(List<String> memberIds) {
+        Map<String, Map<RequestType, Long>> expected = countFromDatabase(memberIds);
+        int repaired = 0;
+        for (String memberId : memberIds) {
+            String key = KEY_PREFIX + memberId;
+            Map<Object, Object> actual = redisTemplate.opsForHash().entries(key);
+            if (actual.isEmpty()) {
+                continue;
+            }
+            Map<RequestType, Long> counts = expected.get(memberId);
+            boolean drifted = counts.entrySet().stream()
+                    .anyMatch(e -> !String.valueOf(e.getValue()).equals(actual.get(e.getKey().name())));
+            if (drifted) {
+                write(key, counts);
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    private void add(String memberId, RequestType type, long delta) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY_PREFIX + memberId),
+                    type.name(), String.valueOf(delta));
+        } catch (Exception e) {
+            // 어긋난 값은 보정 작업에서 복구됨
+            log.warn("대기 요청 카운터 반영 실패 : {}, {}", memberId, e.getMessage());
+        }
+    }
+
+    private void write(String key, Map<RequestType, Long> counts) {
+        try {
+            Map<String, String> fields = new HashMap<>();
+            counts.forEach((type, count) -> fields.put(type.name(), String.valueOf(count)));
+            redisTemplate.opsForHash().putAll(key, fields);
+            redisTemplate.expire(key, TTL);
+        } catch (Exception e) {
+            log.warn("대기 요청 카운터 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 회원별 요청 종류별 대기 요청 수를 DB 에서 계산 (요청이 없으면 0)
+     */
+    private Map<String, Map<RequestType, Long>> countFromDatabase(Collection<String> memberIds) {
+        Map<String, Map<RequestType, Long>> result = new HashMap<>();
+        for (String memberId : memberIds) {
+            Map<RequestType, Long> counts = new EnumMap<>(RequestType.class);
+            for (RequestType type : RequestType.values()) {
+                counts.put(type, 0L);
+            }
+            result.put(memberId, counts);
+        }
+        merge(result, RequestType.FRIEND, friendRequestRepository.countByReceiverIds(memberIds, RequestStatus.PENDING));
+        merge(result, RequestType.GROUP, groupRequestRepository.countByReceiverIds(memberIds, RequestStatus.PENDING));
+        merge(result, RequestType.SCHEDULE, scheduleRequestRepository.countByReceiverIds(memberIds, RequestStatus.PENDING));
+        return result;
+    }
+
+    private void merge(Map<String, Map<RequestType, Long>> result, RequestType type, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            result.get((String) row[0]).put(type, (Long) row[1]);
+        }
+    }
+}
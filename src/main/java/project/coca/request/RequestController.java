@@ -15,10 +15,14 @@ import project.coca.request.request.RequestUpdateRequest;
 import project.coca.request.request.ScheduleRequestRequest;
 import project.coca.request.response.FriendRequestResponse;
 import project.coca.request.response.GroupRequestResponse;
+import project.coca.request.response.InboxResponse;
+import project.coca.request.response.RequestCountResponse;
 import project.coca.request.response.ScheduleRequestResponse;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,6 +30,7 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @RequestMapping("/api/request")
 public class RequestController {
+    private static final int MAX_INBOX_SIZE = 100;
     private final RequestService requestService;
 
     /**
@@ -149,6 +154,46 @@ public class RequestController {
         }
     }
 
+    /**
+     * 37-4. 통합 요청 수신함 조회
+     * status 를 지정하지 않으면 대기중인 요청만 조회
+     */
+    @GetMapping("/inbox/member/{memberId}")
+    public ApiResponse<InboxResponse> findInbox(@PathVariable String memberId,
+                                                @RequestParam(required = false) Set<RequestStatus> status,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") Integer size) {
+        log.info("request inbox by member {} status {} cursor {}", memberId, status, cursor);
+        if (size < 1 || size > MAX_INBOX_SIZE) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, "size 는 1 이상 " + MAX_INBOX_SIZE + " 이하여야 합니다.");
+        }
+        try {
+            Set<RequestStatus> statuses = (status == null || status.isEmpty()) ? EnumSet.of(RequestStatus.PENDING) : status;
+            InboxCursor inboxCursor = (cursor == null || cursor.isBlank()) ? null : InboxCursor.decode(cursor);
+            InboxResponse data = requestService.findInbox(memberId, statuses, inboxCursor, size);
+            return ApiResponse.response(ResponseCode.OK, data);
+        } catch (NoSuchElementException | IllegalArgumentException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 37-5. 대기중인 요청 수 조회 (배지 표시용)
+     */
+    @GetMapping("/count/member/{memberId}")
+    public ApiResponse<RequestCountResponse> countPendingRequests(@PathVariable String memberId) {
+        try {
+            RequestCountResponse data = RequestCountResponse.of(requestService.countPendingRequests(memberId));
+            return ApiResponse.response(ResponseCode.OK, data);
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
     /**
      * 38-1. 친구 요청 수정 => 수락의 경우 친구 등록
      */
@@ -1,5 +1,7 @@
 package project.coca.request;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import project.coca.common.exception.AlreadyReportedException;
@@ -14,12 +16,15 @@ import project.coca.group.GroupMemberRepository;
 import project.coca.group.GroupRepository;
 import project.coca.group.GroupService;
 import project.coca.member.MemberRepository;
+import project.coca.request.response.InboxItemResponse;
+import project.coca.request.response.InboxResponse;
 import project.coca.schedule.PersonalScheduleRepository;
 import project.coca.schedule.ScheduleRequestRepository;
+import project.coca.schedule.WeekScheduleCache;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.NoSuchElementException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -37,6 +42,8 @@ public class RequestService {
     private final PersonalScheduleRepository personalScheduleRepository;
     private final FriendRepository friendRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final PendingRequestCounter pendingRequestCounter;
+    private final WeekScheduleCache weekScheduleCache;
 
     public RequestService(MemberRepository memberRepository,
                           FriendRequestRepository friendRequestRepository,
@@ -49,7 +56,9 @@ public class RequestService {
                           RequestedScheduleRepository requestedScheduleRepository,
                           PersonalScheduleRepository personalScheduleRepository,
                           FriendRepository friendRepository,
-                          GroupMemberRepository groupMemberRepository) {
+                          GroupMemberRepository groupMemberRepository,
+                          PendingRequestCounter pendingRequestCounter,
+                          WeekScheduleCache weekScheduleCache) {
         this.memberRepository = memberRepository;
         this.friendRequestRepository = friendRequestRepository;
         this.groupRepository = groupRepository;
@@ -62,8 +71,16 @@ public class RequestService {
         this.personalScheduleRepository = personalScheduleRepository;
         this.friendRepository = friendRepository;
         this.groupMemberRepository = groupMemberRepository;
+        this.pendingRequestCounter = pendingRequestCounter;
+        this.weekScheduleCache = weekScheduleCache;
     }
 
+    // 통합 수신함 정렬 기준 (생성일시 내림차순, 요청 종류, id 내림차순)
+    private static final Comparator<InboxItemResponse> INBOX_ORDER = Comparator
+            .comparing(InboxItemResponse::getCreatedDate, Comparator.reverseOrder())
+            .thenComparing(InboxItemResponse::getType)
+            .thenComparing(InboxItemResponse::getRequestId, Comparator.reverseOrder());
+
     private static PersonalSchedule getPersonalSchedule(ScheduleRequest scheduleRequest) {
         RequestedSchedule requestedSchedule = scheduleRequest.getRequestedSchedule();
         return PersonalSchedule.builder()
@@ -123,6 +140,7 @@ public class RequestService {
         req.setRequestStatus(RequestStatus.PENDING);
         // 4. 친구 요청 등록
         friendRequestRepository.save(req);
+        pendingRequestCounter.increment(toMember.getId(), RequestType.FRIEND);
     }
 
     /**
@@ -157,6 +175,7 @@ public class RequestService {
 
         // 5. 그룹 요청 등록
         groupRequestRepository.save(req);
+        pendingRequestCounter.increment(toMember.getId(), RequestType.GROUP);
     }
 
     /**
@@ -168,28 +187,38 @@ public class RequestService {
                 .orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않습니다."));
         // 요청된 일정부터 저장
         RequestedSchedule savedSchedule = requestedScheduleRepository.save(schedule);
+        // 수신자 일괄 조회 (ID가 null이 아닌 경우에만 요청 생성)
+        Set<String> receiverIds = receivers.stream()
+                .map(Member::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Member> findReceivers = memberRepository.findAllById(receiverIds);
+        if (findReceivers.size() != receiverIds.size()) {
+            throw new NoSuchElementException("친구가 조회되지 않습니다.");
+        }
         List<ScheduleRequest> requests = new ArrayList<>();
-        for (Member receiver : receivers) {
-            if (receiver.getId() != null) { // ID가 null이 아닌 경우에만 요청 생성
-                Member findReceiver = memberRepository.findById(receiver.getId())
-                        .orElseThrow(() -> new NoSuchElementException("친구가 조회되지 않습니다."));
-                ScheduleRequest newRequest = new ScheduleRequest();
-                newRequest.setSender(findSender);
-                newRequest.setRequestedSchedule(savedSchedule);
-                newRequest.setReceiver(findReceiver);
-                newRequest.setRequestStatus(RequestStatus.PENDING);
-                requests.add(newRequest);
-            }
+        for (Member findReceiver : findReceivers) {
+            ScheduleRequest newRequest = new ScheduleRequest();
+            newRequest.setSender(findSender);
+            newRequest.setRequestedSchedule(savedSchedule);
+            newRequest.setReceiver(findReceiver);
+            newRequest.setRequestStatus(RequestStatus.PENDING);
+            requests.add(newRequest);
         }
         // 본인 일정에도 추가
         PersonalSchedule personalSchedule = getPersonalSchedule(sender, schedule);
         personalScheduleRepository.save(personalSchedule);
+        weekScheduleCache.evict(findSender.getId(), personalSchedule.getStartTime(), personalSchedule.getEndTime());
         scheduleRequestRepository.saveAll(requests);
+        for (Member findReceiver : findReceivers) {
+            pendingRequestCounter.increment(findReceiver.getId(), RequestType.SCHEDULE);
+        }
     }
 
     /**
      * 37-1. 친구 요청 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<FriendRequest> findFriendRequests(String memberId) {
         // 1. 회원 검증
         Member member = memberRepository.findById(memberId)
@@ -201,6 +230,7 @@ public class RequestService {
     /**
      * 37-2. 그룹 초대 요청 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<GroupRequest> findGroupRequests(String memberId) {
         // 1. 회원 검증
         Member member = memberRepository.findById(memberId)
@@ -212,6 +242,7 @@ public class RequestService {
     /**
      * 37-3. 빈일정 추가 요청 목록 조회
      */
+    @Transactional(readOnly = true)
     public List<ScheduleRequest> findScheduleRequests(String memberId) {
         // 1. 회원 검증
         Member member = memberRepository.findById(memberId)
@@ -220,6 +251,70 @@ public class RequestService {
         return scheduleRequestRepository.findByReceiverOrderByCreatedDateDesc(member);
     }
 
+    /**
+     * 37-4. 통합 요청 수신함 조회
+     * 세 종류의 요청을 (생성일시 내림차순, 요청 종류, id 내림차순)으로 병합해 keyset 페이지로 조회
+     *
+     * @param memberId 수신 회원 id
+     * @param statuses 조회할 요청 상태
+     * @param cursor   이전 페이지의 마지막 요청, 첫 페이지면 null
+     * @param size     페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public InboxResponse findInbox(String memberId, Set<RequestStatus> statuses, InboxCursor cursor, int size) {
+        // 1. 회원 검증
+        if (!memberRepository.existsById(memberId)) {
+            throw new NoSuchElementException("회원이 조회되지 않습니다.");
+        }
+        // 2. 종류별로 size + 1 개씩 조회 (다음 페이지 여부 판단용)
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<InboxItemResponse> merged = new ArrayList<>();
+        if (cursor == null) {
+            friendRequestRepository.findInbox(memberId, statuses, limit)
+                    .forEach(r -> merged.add(InboxItemResponse.of(r)));
+            groupRequestRepository.findInbox(memberId, statuses, limit)
+                    .forEach(r -> merged.add(InboxItemResponse.of(r)));
+            scheduleRequestRepository.findInbox(memberId, statuses, limit)
+                    .forEach(r -> merged.add(InboxItemResponse.of(r)));
+        } else {
+            LocalDateTime at = cursor.getCreatedDate();
+            friendRequestRepository.findInboxAfter(memberId, statuses, at, cursor.idBoundFor(RequestType.FRIEND), limit)
+                    .forEach(r -> merged.add(InboxItemResponse.of(r)));
+            groupRequestRepository.findInboxAfter(memberId, statuses, at, cursor.idBoundFor(RequestType.GROUP), limit)
+                    .forEach(r -> merged.add(InboxItemResponse.of(r)));
+            scheduleRequestRepository.findInboxAfter(memberId, statuses, at, cursor.idBoundFor(RequestType.SCHEDULE), limit)
+                    .forEach(r -> merged.add(InboxItemResponse.of(r)));
+        }
+        // 3. 병합 정렬 후 size 만큼 자르기
+        merged.sort(INBOX_ORDER);
+        boolean hasNext = merged.size() > size;
+        List<InboxItemResponse> page = hasNext ? new ArrayList<>(merged.subList(0, size)) : merged;
+        // 4. 다음 커서 생성
+        String nextCursor = null;
+        if (hasNext) {
+            InboxItemResponse last = page.get(page.size() - 1);
+            nextCursor = new InboxCursor(last.getCreatedDate(), last.getType(), last.getRequestId()).encode();
+        }
+        return InboxResponse.builder()
+                .requests(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 37-5. 대기중인 요청 수 조회
+     */
+    @Transactional(readOnly = true)
+    public Map<RequestType, Long> countPendingRequests(String memberId) {
+        // 1. 회원 검증
+        if (!memberRepository.existsById(memberId)) {
+            throw new NoSuchElementException("회원이 조회되지 않습니다.");
+        }
+        // 2. Redis 카운터 조회
+        return pendingRequestCounter.getCounts(memberId);
+    }
+
     /**
      * 38-1. 친구 요청 수정 => 수락의 경우 친구 등록
      */
@@ -231,14 +326,16 @@ public class RequestService {
         if (request.getRequestStatus() != RequestStatus.PENDING) {
             throw new NoSuchElementException("이미 처리된 요청입니다.");
         }
-        // 2. 수정 내용 적용
-        request.setRequestStatus(status);
+        // 2. 대기중일 때만 수정 내용 적용 (동시에 처리된 요청이면 0건)
+        if (friendRequestRepository.updateStatusIfPending(requestId, status) == 0) {
+            throw new NoSuchElementException("이미 처리된 요청입니다.");
+        }
         // 3. status가 승인의 경우 친구 등록
         if (status == RequestStatus.ACCEPTED) {
             friendService.saveFriend(request.getSender(), request.getReceiver());
         }
-        // 4. 수정된 친구 요청 저장
-        friendRequestRepository.save(request);
+        // 4. 대기 요청에서 벗어났으므로 카운터 감소
+        pendingRequestCounter.decrement(request.getReceiver().getId(), RequestType.FRIEND);
     }
 
     /**
@@ -253,15 +350,17 @@ public class RequestService {
         if (groupRequest.getRequestStatus() != RequestStatus.PENDING) {
             throw new AlreadyReportedException("이미 처리된 요청입니다.");
         }
-        // 2. 수정 내용 적용
-        groupRequest.setRequestStatus(status);
+        // 2. 대기중일 때만 수정 내용 적용 (동시에 처리된 요청이면 0건)
+        if (groupRequestRepository.updateStatusIfPending(requestId, status) == 0) {
+            throw new AlreadyReportedException("이미 처리된 요청입니다.");
+        }
         // 3. status가 승인의 경우 그룹 참가하기
         if (status == RequestStatus.ACCEPTED) {
             // 3-1. 그룹 참가
             groupService.joinGroup(groupRequest.getReceiver(), groupRequest.getCoGroup());
         }
-        // 4. 수정된 그룹 요청 저장
-        groupRequestRepository.save(groupRequest);
+        // 4. 대기 요청에서 벗어났으므로 카운터 감소
+        pendingRequestCounter.decrement(groupRequest.getReceiver().getId(), RequestType.GROUP);
     }
 
     /**
@@ -275,15 +374,19 @@ public class RequestService {
         if (scheduleRequest.getRequestStatus() != RequestStatus.PENDING) {
             throw new AlreadyReportedException("이미 처리된 요청입니다.");
         }
-        // 2. 수정 내용 적용
-        scheduleRequest.setRequestStatus(status);
+        // 2. 대기중일 때만 수정 내용 적용 (동시에 처리된 요청이면 0건)
+        if (scheduleRequestRepository.updateStatusIfPending(requestId, status) == 0) {
+            throw new AlreadyReportedException("이미 처리된 요청입니다.");
+        }
         // 3. status가 승인의 경우 개인 일정에 추가하기
         if (status == RequestStatus.ACCEPTED) {
             PersonalSchedule personalSchedule = getPersonalSchedule(scheduleRequest);
             personalScheduleRepository.save(personalSchedule);
+            weekScheduleCache.evict(scheduleRequest.getReceiver().getId(),
+                    personalSchedule.getStartTime(), personalSchedule.getEndTime());
         }
-        // 4. 수정된 그룹 요청 저장
-        scheduleRequestRepository.save(scheduleRequest);
+        // 4. 대기 요청에서 벗어났으므로 카운터 감소
+        pendingRequestCounter.decrement(scheduleRequest.getReceiver().getId(), RequestType.SCHEDULE);
     }
 
     /**
@@ -294,7 +397,12 @@ public class RequestService {
         FriendRequest request = friendRequestRepository.findById(requestId)
                 .orElseThrow(() -> new NoSuchElementException("요청이 조회되지 않습니다."));
         // 2. 요청 삭제
-        friendRequestRepository.delete(request);
+        // 대기중인 요청을 삭제한 경우에만 카운터 감소 (조회한 상태는 동시에 처리되면 달라질 수 있음)
+        if (friendRequestRepository.deleteIfPending(requestId) == 1) {
+            pendingRequestCounter.decrement(request.getReceiver().getId(), RequestType.FRIEND);
+        } else {
+            friendRequestRepository.deleteRequest(requestId);
+        }
     }
 
     /**
@@ -305,7 +413,12 @@ public class RequestService {
         GroupRequest groupRequest = groupRequestRepository.findById(requestId)
                 .orElseThrow(() -> new NoSuchElementException("요청이 조회되지 않습니다."));
         // 2. 요청 삭제
-        groupRequestRepository.delete(groupRequest);
+        // 대기중인 요청을 삭제한 경우에만 카운터 감소 (조회한 상태는 동시에 처리되면 달라질 수 있음)
+        if (groupRequestRepository.deleteIfPending(requestId) == 1) {
+            pendingRequestCounter.decrement(groupRequest.getReceiver().getId(), RequestType.GROUP);
+        } else {
+            groupRequestRepository.deleteRequest(requestId);
+        }
     }
 
     /**
@@ -316,6 +429,11 @@ public class RequestService {
         ScheduleRequest scheduleRequest = scheduleRequestRepository.findById(requestId)
                 .orElseThrow(() -> new NoSuchElementException("요청이 조회되지 않습니다."));
         // 2. 요청 삭제
-        scheduleRequestRepository.delete(scheduleRequest);
+        // 대기중인 요청을 삭제한 경우에만 카운터 감소 (조회한 상태는 동시에 처리되면 달라질 수 있음)
+        if (scheduleRequestRepository.deleteIfPending(requestId) == 1) {
+            pendingRequestCounter.decrement(scheduleRequest.getReceiver().getId(), RequestType.SCHEDULE);
+        } else {
+            scheduleRequestRepository.deleteRequest(requestId);
+        }
     }
 }
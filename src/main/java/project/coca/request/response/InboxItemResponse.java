@@ -0,0 +1,67 @@
+package project.coca.request.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+import project.coca.domain.request.FriendRequest;
+import project.coca.domain.request.GroupRequest;
+import project.coca.domain.request.RequestStatus;
+import project.coca.domain.request.RequestType;
+import project.coca.domain.request.ScheduleRequest;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InboxItemResponse {
+    private RequestType type;
+    private Long requestId;
+    private RequestStatus status;
+    private LocalDateTime createdDate;
+    private RequestMemberResponse sender;
+    // 그룹 초대 요청
+    private Long groupId;
+    private String groupName;
+    // 빈일정 추가 요청
+    private Long requestedScheduleId;
+    private String title;
+    private LocalDateTime start;
+    private LocalDateTime end;
+
+    public static InboxItemResponse of(FriendRequest friendRequest) {
+        return InboxItemResponse.builder()
+                .type(RequestType.FRIEND)
+                .requestId(friendRequest.getId())
+                .status(friendRequest.getRequestStatus())
+                .createdDate(friendRequest.getCreatedDate())
+                .sender(RequestMemberResponse.of(friendRequest.getSender()))
+                .build();
+    }
+
+    public static InboxItemResponse of(GroupRequest groupRequest) {
+        return InboxItemResponse.builder()
+                .type(RequestType.GROUP)
+                .requestId(groupRequest.getId())
+                .status(groupRequest.getRequestStatus())
+                .createdDate(groupRequest.getCreatedDate())
+                .sender(RequestMemberResponse.of(groupRequest.getSender()))
+                .groupId(groupRequest.getCoGroup().getId())
+                .groupName(groupRequest.getCoGroup().getName())
+                .build();
+    }
+
+    public static InboxItemResponse of(ScheduleRequest scheduleRequest) {
+        return InboxItemResponse.builder()
+                .type(RequestType.SCHEDULE)
+                .requestId(scheduleRequest.getId())
+                .status(scheduleRequest.getRequestStatus())
+                .createdDate(scheduleRequest.getCreatedDate())
+                .sender(RequestMemberResponse.of(scheduleRequest.getSender()))
+                .requestedScheduleId(scheduleRequest.getRequestedSchedule().getId())
+                .title(scheduleRequest.getRequestedSchedule().getTitle())
+                .start(scheduleRequest.getRequestedSchedule().getStartTime())
+                .end(scheduleRequest.getRequestedSchedule().getEndTime())
+                .build();
+    }
+}
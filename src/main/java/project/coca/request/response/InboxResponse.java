@@ -0,0 +1,15 @@
+package project.coca.request.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class InboxResponse {
+    private List<InboxItemResponse> requests;
+    // 다음 페이지 조회용 커서, 마지막 페이지면 null
+    private String nextCursor;
+    private Boolean hasNext;
+}
@@ -0,0 +1,28 @@
+package project.coca.request.response;
+
+import lombok.Builder;
+import lombok.Data;
+import project.coca.domain.request.RequestType;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class RequestCountResponse {
+    private Long friend;
+    private Long group;
+    private Long schedule;
+    private Long total;
+
+    public static RequestCountResponse of(Map<RequestType, Long> counts) {
+        long friend = counts.getOrDefault(RequestType.FRIEND, 0L);
+        long group = counts.getOrDefault(RequestType.GROUP, 0L);
+        long schedule = counts.getOrDefault(RequestType.SCHEDULE, 0L);
+        return RequestCountResponse.builder()
+                .friend(friend)
+                .group(group)
+                .schedule(schedule)
+                .total(friend + group + schedule)
+                .build();
+    }
+}
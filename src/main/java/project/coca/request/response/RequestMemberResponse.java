@@ -3,6 +3,7 @@ package project.coca.request.response;
 import lombok.Builder;
 import lombok.Data;
 import project.coca.domain.personal.Member;
+import project.coca.member.ProfileImages;
 
 @Data
 @Builder
@@ -15,7 +16,7 @@ public class RequestMemberResponse {
         return RequestMemberResponse.builder()
                 .id(member.getId())
                 .name(member.getUserName())
-                .profileImagePath(member.getProfileImgPath())
+                .profileImagePath(ProfileImages.listUrl(member))
                 .build();
     }
 }
@@ -0,0 +1,190 @@
+package project.coca.schedule;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 첨부파일 저장소 (내용 해시 + 참조 수)
+ * - 첨부파일은 objects/{SHA-256} 에 한 번만 저장하고 StoredObject 의 refCount 로 참조하는 첨부파일 행 수를 관리
+ * - 업로드한 파일의 참조는 파일이 있는 것을 확인한 시점에 별도 트랜잭션으로 바로 추가함
+ *   (이미 저장된 내용이면 retainExisting 으로 참조를 먼저 잡고 업로드를 생략, 행이 없으면 업로드 후 참조 추가)
+ *   참조를 잡은 뒤에는 삭제 큐가 파일을 지우지 않으므로, 첨부파일 행 저장이 실패 / 롤백되면 releaseNow 로 해제해야 함
+ *   삭제 큐가 삭제 중으로 표시한 행은 없는 것으로 보고, 행이 정리될 때까지(deletion-wait 이내) 기다린 뒤 다시 업로드함
+ * - 마지막 참조가 해제되면 행은 삭제 대기(refCount 0)로 남기고 같은 트랜잭션에 S3 파일 삭제 작업 추가
+ * - 일정별 경로에 저장된 이전 파일은 참조 수가 없으므로, 이 경로를 가리키는 첨부파일 행이 남아있지 않을 때만 삭제
+ * retainPath / release 는 호출한 트랜잭션 안에서 첨부파일 행 변경과 함께 반영되어야 함.
+ */
+@Service
+public class AttachmentStorage {
+    private static final long DELETION_POLL_MILLIS = 100;
+
+    private final S3Service s3Service;
+    private final StoredObjectRepository storedObjectRepository;
+    private final PersonalScheduleAttachmentRepository personalScheduleAttachmentRepository;
+    private final GroupScheduleAttachmentRepository groupScheduleAttachmentRepository;
+    private final S3DeleteQueue s3DeleteQueue;
+    // 요청 트랜잭션과 관계없이 바로 커밋되는 참조 추가 / 해제용
+    private final TransactionTemplate requiresNew;
+    // 삭제 중인 행이 정리되기를 기다리는 최대 시간
+    private final Duration deletionWait;
+
+    public AttachmentStorage(S3Service s3Service,
+                             StoredObjectRepository storedObjectRepository,
+                             PersonalScheduleAttachmentRepository personalScheduleAttachmentRepository,
+                             GroupScheduleAttachmentRepository groupScheduleAttachmentRepository,
+                             S3DeleteQueue s3DeleteQueue,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${s3.delete-queue.deletion-wait:5s}") Duration deletionWait) {
+        this.s3Service = s3Service;
+        this.storedObjectRepository = storedObjectRepository;
+        this.personalScheduleAttachmentRepository = personalScheduleAttachmentRepository;
+        this.groupScheduleAttachmentRepository = groupScheduleAttachmentRepository;
+        this.s3DeleteQueue = s3DeleteQueue;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.deletionWait = deletionWait;
+    }
+
+    /**
+     * 파일 해시 계산 후 참조 추가, 저장되지 않은 내용이면 업로드 (업로드 executor 에서 호출)
+     * 참조는 바로 커밋되므로 첨부파일 행을 저장하지 못하면 releaseNow 로 해제해야 함.
+     *
+     * @return 업로드 결과 (참조 1개를 잡은 상태)
+     */
+    public UploadedFile upload(MultipartFile file) throws IOException {
+        MessageDigest sha256 = digest("SHA-256");
+        MessageDigest md5 = digest("MD5");
+        try (InputStream inputStream = new DigestInputStream(new DigestInputStream(file.getInputStream(), sha256), md5)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        String hash = HexFormat.of().formatHex(sha256.digest());
+        String fileMd5 = UploadedFile.fileMd5Of(md5.digest(), file.getName());
+
+        acquire(hash, file.getSize(), file);
+        return new UploadedFile(s3Service.urlOf(s3Service.objectKey(hash)), fileMd5, hash, file.getSize());
+    }
+
+    /**
+     * 업로드된 파일의 참조 추가 (첨부파일 행 1개당 1회, 호출한 트랜잭션과 관계없이 바로 커밋)
+     * 파일이 실제로 있는지는 참조를 잡은 뒤에 확인해야 삭제 큐와 엇갈리지 않음.
+     */
+    public void retainNow(String hash, long size) {
+        try {
+            acquire(hash, size, null);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 참조 1개 추가 (행마다 별도 트랜잭션으로 바로 커밋)
+     * - 삭제 중이 아닌 행이 있으면 파일도 있으므로 참조만 추가
+     * - 삭제 중인 행이면 삭제 큐가 정리할 때까지 기다림 (파일이 곧 삭제되므로 참조할 수 없음)
+     * - 행이 없으면 업로드(file 이 있을 때) 후 행 추가, 동시에 추가된 경우 처음부터 다시 확인
+     *
+     * @param file 업로드할 파일, 이미 업로드된 파일이면 null
+     */
+    private void acquire(String hash, long size, MultipartFile file) throws IOException {
+        long deadline = System.nanoTime() + deletionWait.toNanos();
+        while (true) {
+            Integer retained = requiresNew.execute(status -> storedObjectRepository.retainExisting(hash, 1));
+            if (retained != null && retained > 0) {
+                return;
+            }
+            if (Boolean.TRUE.equals(requiresNew.execute(status -> storedObjectRepository.existsByHashAndDeletingTrue(hash)))) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("삭제 중인 파일입니다. 잠시 후 다시 시도해주세요.");
+                }
+                try {
+                    Thread.sleep(DELETION_POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("파일 저장이 중단되었습니다.", e);
+                }
+                continue;
+            }
+            if (file != null) {
+                s3Service.uploadObject(file, hash);
+            }
+            Integer inserted = requiresNew.execute(status ->
+                    storedObjectRepository.insertIfAbsent(hash, size, 1, LocalDateTime.now()));
+            if (inserted != null && inserted > 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이미 다른 첨부파일이 가리키는 파일의 참조 추가 (그룹 일정 -> 개인 일정 복사 등)
+     * 이전 방식의 파일은 참조 수가 없으므로 변화 없음.
+     */
+    @Transactional
+    public void retainPath(String filePath) {
+        s3Service.hashOf(filePath).ifPresent(hash -> storedObjectRepository.retainExisting(hash, 1));
+    }
+
+    /**
+     * 첨부파일 행이 삭제된 파일의 참조 해제 (첨부파일 행을 먼저 삭제한 뒤 호출)
+     * 마지막 참조였던 파일은 삭제 큐에 등록함.
+     *
+     * @param filePaths 삭제된 첨부파일 행의 경로 (행 수만큼, 중복 포함)
+     */
+    @Transactional
+    public void release(Collection<String> filePaths) {
+        Map<String, Long> counts = filePaths.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        List<String> unreferenced = new ArrayList<>();
+        counts.forEach((filePath, count) -> {
+            Optional<String> hash = s3Service.hashOf(filePath);
+            if (hash.isPresent() && storedObjectRepository.release(hash.get(), count) > 0) {
+                Long refCount = storedObjectRepository.findRefCount(hash.get());
+                if (refCount != null && refCount <= 0) {
+                    unreferenced.add(filePath);
+                }
+            } else if (!personalScheduleAttachmentRepository.existsByFilePath(filePath)
+                    && !groupScheduleAttachmentRepository.existsByFilePath(filePath)) {
+                // 참조 수가 없는 이전 방식의 파일
+                unreferenced.add(filePath);
+            }
+        });
+        // 같은 트랜잭션에 삭제 작업 추가 (커밋되어야 삭제됨)
+        s3DeleteQueue.enqueue(unreferenced);
+    }
+
+    /**
+     * 첨부파일 행을 저장하지 못한 파일의 참조 해제 (업로드 실패, 롤백 이후 등 호출한 트랜잭션과 관계없이 바로 커밋)
+     *
+     * @param filePaths 참조를 잡았던 파일 경로 (참조 수만큼, 중복 포함)
+     */
+    public void releaseNow(Collection<String> filePaths) {
+        if (!filePaths.isEmpty()) {
+            requiresNew.executeWithoutResult(status -> release(filePaths));
+        }
+    }
+
+    private MessageDigest digest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package project.coca.schedule;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * 일정 첨부파일 동시 업로드
+ * - 업로드 전용 executor 에서 수행하고, 요청 1건이 동시에 올리는 파일 수는 max-concurrency 로 제한
+ * - 업로드한 파일은 참조를 잡은 상태로 돌아오므로, 하나라도 실패하면 성공한 파일의 참조를 해제하고 예외
+ * - 업로드 이후 트랜잭션이 롤백되면 업로드한 파일의 참조를 해제 (마지막 참조였던 파일은 삭제 큐로)
+ */
+@Component
+public class AttachmentUploader {
+    private final TaskExecutor uploadExecutor;
+    private final AttachmentStorage attachmentStorage;
+    private final int maxConcurrency;
+
+    public AttachmentUploader(@Qualifier("uploadExecutor") TaskExecutor uploadExecutor,
+                              AttachmentStorage attachmentStorage,
+                              @Value("${s3.upload.max-concurrency-per-request:4}") int maxConcurrency) {
+        this.uploadExecutor = uploadExecutor;
+        this.attachmentStorage = attachmentStorage;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @FunctionalInterface
+    public interface Upload<T> {
+        T upload(MultipartFile file, int index) throws IOException;
+    }
+
+    /**
+     * 파일 목록 업로드 (null 항목은 건너뜀)
+     *
+     * @param files  업로드할 파일, index 는 배열에서의 위치
+     * @param upload 파일 1개 업로드
+     * @param urlOf  업로드 결과의 url (실패 / 롤백 시 참조 해제용)
+     * @return 업로드 결과 (파일 순서 유지)
+     * @throws IOException 하나라도 실패한 경우 (성공한 파일의 참조는 해제됨)
+     */
+    public <T> List<T> uploadAll(MultipartFile[] files, Upload<T> upload, Function<T, String> urlOf) throws IOException {
+        if (files == null || files.length == 0) {
+            return List.of();
+        }
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (int i = 0; i < files.length; i++) {
+            MultipartFile file = files[i];
+            if (file == null) {
+                continue;
+            }
+            int index = i;
+            permits.acquireUninterruptibly();
+            CompletableFuture<T> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return upload.upload(file, index);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, uploadExecutor);
+            } catch (RuntimeException e) {
+                // executor 가 작업을 받지 않은 경우
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.add(future.whenComplete((result, error) -> permits.release()));
+        }
+
+        List<T> uploaded = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                uploaded.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() != null ? e.getCause() : e;
+                }
+            }
+        }
+
+        List<String> urls = uploaded.stream().map(urlOf).filter(Objects::nonNull).toList();
+        if (failure != null) {
+            releaseAll(urls);
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("첨부파일 업로드에 실패했습니다.", failure);
+        }
+        releaseOnRollback(urls);
+        return uploaded;
+    }
+
+    private void releaseOnRollback(List<String> urls) {
+        if (urls.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    releaseAll(urls);
+                }
+            }
+        });
+    }
+
+    // 업로드에서 잡은 참조는 이미 커밋되었으므로, 요청 트랜잭션이 롤백되어도 별도 트랜잭션으로 해제
+    // 다른 요청이 같은 파일을 참조하고 있으면 참조 수만 줄어들고 파일은 남음
+    private void releaseAll(List<String> urls) {
+        attachmentStorage.releaseNow(urls);
+    }
+}
@@ -1,5 +1,6 @@
 package project.coca.schedule;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -7,14 +8,20 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import project.coca.common.ApiResponse;
 import project.coca.common.error.ErrorCode;
+import project.coca.common.ratelimit.RateLimitFilter;
+import project.coca.common.ratelimit.RateLimitProperties;
+import project.coca.common.ratelimit.RateLimiter;
 import project.coca.common.success.ResponseCode;
 import project.coca.schedule.request.FindEmptyScheduleRequest;
 import project.coca.schedule.response.CommonSchedule;
 import project.coca.schedule.response.PersonalScheduleForEmptyScheduleResponse;
 import project.coca.schedule.FindingAlgorithm.CommonScheduleService;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @AllArgsConstructor
 @RestController
@@ -22,10 +29,19 @@ import java.util.NoSuchElementException;
 public class CommonScheduleController {
 
     private final CommonScheduleService commonScheduleService;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
 
     @PostMapping("/findEmptyScheduleReq")
-    public ApiResponse<List<CommonSchedule>> findEmptyScheduleReq(@RequestBody FindEmptyScheduleRequest request) {
+    public ApiResponse<List<CommonSchedule>> findEmptyScheduleReq(@RequestBody FindEmptyScheduleRequest request,
+                                                                   HttpServletRequest servletRequest) {
         try {
+            // 검색 기간이 길수록 token 을 더 소모 (기본 1개는 RateLimitFilter 에서 소모)
+            Optional<Duration> retryAfter = consumeRangeCost(request, servletRequest);
+            if (retryAfter.isPresent()) {
+                return ApiResponse.fail(ErrorCode.TOO_MANY_REQUESTS,
+                        "검색 요청이 너무 많습니다. " + retryAfter.get().toSeconds() + "초 후 다시 시도해주세요.");
+            }
             List<CommonSchedule> result = commonScheduleService.findEmptySchedule(request);
 
             return ApiResponse.response(ResponseCode.OK, result);
@@ -47,4 +63,23 @@ public class CommonScheduleController {
             return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
+
+    /**
+     * 빈 일정 찾기 검색 기간에 비례한 추가 token 소모
+     *
+     * @return 거절되면 재시도까지 남은 시간
+     */
+    private Optional<Duration> consumeRangeCost(FindEmptyScheduleRequest request, HttpServletRequest servletRequest) {
+        if (!rateLimitProperties.isEnabled() || request.getStartDate() == null || request.getEndDate() == null) {
+            return Optional.empty();
+        }
+        long days = ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+        int daysPerToken = Math.max(1, rateLimitProperties.getEmptyScheduleDaysPerToken());
+        int extraCost = (int) ((Math.max(days, 1) - 1) / daysPerToken);
+        if (extraCost <= 0) {
+            return Optional.empty();
+        }
+        return rateLimitProperties.findRule(RateLimitProperties.EMPTY_SCHEDULE_RULE)
+                .flatMap(rule -> rateLimiter.tryConsume(rule, RateLimitFilter.subjectOf(servletRequest), extraCost));
+    }
 }
@@ -1,6 +1,7 @@
 package project.coca.schedule;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.group.GroupScheduleAttachment;
 
@@ -9,4 +10,13 @@ import java.util.List;
 public interface GroupScheduleAttachmentRepository extends JpaRepository<GroupScheduleAttachment, Long> {
     @Query("select ga from GroupScheduleAttachment ga where ga.groupSchedule.id = :scheduleId")
     List<GroupScheduleAttachment> findGroupScheduleAttachmentByGroupScheduleId(Long scheduleId);
+
+    @Query("select ga.filePath from GroupScheduleAttachment ga where ga.groupSchedule.id = :scheduleId")
+    List<String> findFilePathsByGroupScheduleId(Long scheduleId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from GroupScheduleAttachment ga where ga.groupSchedule.id = :scheduleId")
+    int deleteAllByGroupScheduleId(Long scheduleId);
+
+    boolean existsByFilePath(String filePath);
 }
@@ -1,7 +1,17 @@
 package project.coca.schedule;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.group.GroupScheduleHeart;
 
 public interface GroupScheduleHeartRepository extends JpaRepository<GroupScheduleHeart, Long> {
+    @Modifying(flushAutomatically = true)
+    @Query("delete from GroupScheduleHeart h where h.groupSchedule.id = :scheduleId")
+    int deleteAllByGroupScheduleId(Long scheduleId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from GroupScheduleHeart h where h.groupMember.id in " +
+            "(select gm.id from GroupMember gm where gm.coGroup.id = :groupId and gm.groupMember.id = :memberId)")
+    int deleteAllByGroupIdAndMemberId(Long groupId, String memberId);
 }
@@ -1,6 +1,7 @@
 package project.coca.schedule;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.group.GroupSchedule;
 
@@ -15,6 +16,13 @@ public interface GroupScheduleRepository extends JpaRepository<GroupSchedule, Lo
 
     boolean existsById(Long id);
 
+    boolean existsByIdAndCoGroupId(Long id, Long groupId);
+
+    // 하트, 첨부파일을 먼저 일괄 삭제한 뒤 호출해야 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from GroupSchedule s where s.id = :scheduleId and s.coGroup.id = :groupId")
+    int deleteByIdAndGroupId(Long scheduleId, Long groupId);
+
     @Query("select s from GroupSchedule s where s.coGroup.id = :groupId and ((s.startTime <= :startDate and s.endTime >= :endDate) " +
             "or ((s.startTime between :startDate and :endDate) or (s.endTime between :startDate and :endDate))) order by s.startTime asc")
     List<GroupSchedule> findGroupSchedule(Long groupId, LocalDateTime startDate, LocalDateTime endDate);
@@ -15,16 +15,20 @@ import project.coca.member.MemberRepository;
 import project.coca.schedule.request.GroupScheduleRequest;
 
 import java.io.IOException;
-import java.math.BigInteger;
-import java.net.URL;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 
 @Service
@@ -40,39 +44,56 @@ public class GroupScheduleService {
     private final PersonalScheduleRepository personalScheduleRepository;
     private final S3Service s3Service;
     private final GroupScheduleHeartRepository groupScheduleHeartRepository;
+    private final WeekScheduleCache weekScheduleCache;
+    private final AttachmentUploader attachmentUploader;
+    private final AttachmentStorage attachmentStorage;
 
-    //파일의 md5 생성
+    //파일의 md5 생성 (스트림으로 읽어 파일 전체를 heap 에 올리지 않음)
     public String generateFileMd5(MultipartFile file) throws NoSuchAlgorithmException, IOException {
         MessageDigest md = MessageDigest.getInstance("MD5");
-        byte[] fileByte = file.getBytes();
-
-        md.update(fileByte);
-        byte[] hash = md.digest();
-
-        return new BigInteger(1, hash).toString(16) + file.getName();
+        try (InputStream inputStream = new DigestInputStream(file.getInputStream(), md)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return UploadedFile.fileMd5Of(md.digest(), file.getName());
     }
 
+    // 업로드 executor 에서 올린 파일(참조 추가됨)로 첨부파일 생성 (요청 스레드에서 호출)
     private GroupScheduleAttachment generateAttachment(
-            MultipartFile multipartFile, GroupSchedule schedule, int divisionNum)
-            throws NoSuchAlgorithmException, IOException {
+            MultipartFile multipartFile, UploadedFile uploaded, GroupSchedule schedule) {
         GroupScheduleAttachment changeAttach = new GroupScheduleAttachment();
 
         changeAttach.setFileName(multipartFile.getOriginalFilename());
-        // 그룹 일정 첨부파일 aws 코드
-        URL url = s3Service.uploadGroupScheduleFile(multipartFile, schedule.getCoGroup().getId(), schedule.getId(), divisionNum);
-        changeAttach.setFilePath(url.toString());
+        // 그룹 일정 첨부파일 aws 코드 (내용 해시로 저장, 같은 파일은 참조만 추가)
+        changeAttach.setFilePath(uploaded.getUrl());
 
-        changeAttach.setFileMd5(generateFileMd5(multipartFile));
+        changeAttach.setFileMd5(uploaded.getFileMd5());
         changeAttach.setGroupSchedule(schedule);
 
         return changeAttach;
     }
 
+    // 첨부파일 동시 업로드 후 파일 순서대로 첨부파일 생성 (null 항목은 건너뜀)
+    private List<GroupScheduleAttachment> uploadAttachments(MultipartFile[] files, GroupSchedule schedule) throws IOException {
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        List<MultipartFile> nonNullFiles = Arrays.stream(files).filter(Objects::nonNull).toList();
+        List<UploadedFile> uploaded = attachmentUploader.uploadAll(files,
+                (file, index) -> attachmentStorage.upload(file),
+                UploadedFile::getUrl);
+        List<GroupScheduleAttachment> attachments = new ArrayList<>();
+        for (int i = 0; i < uploaded.size(); i++) {
+            attachments.add(generateAttachment(nonNullFiles.get(i), uploaded.get(i), schedule));
+        }
+        return attachments;
+    }
+
     /* 그룹 일정 목록 조회 & 그룹 일정 상세 정보 조회
     멤버가 그룹에 포함되어있는지 확인
         -> 그룹 일정 조회
         -> 일정 반환
     */
+    @Transactional(readOnly = true)
     public List<GroupSchedule> groupScheduleInquiry(
             Long groupId, String memberId, LocalDate startDay, LocalDate endDay) {
         GroupMember checkMember = groupMemberRepository.checkMemberInGroup(groupId, memberId)
@@ -106,17 +127,12 @@ public class GroupScheduleService {
         registSchedule.setColor(requestSchedule.getColor());
 
         // 그룹 일정 id를 얻기 위해 한 번 save 해야함
-        registSchedule = groupScheduleRepository.save(registSchedule);
+        GroupSchedule savedSchedule = groupScheduleRepository.save(registSchedule);
 
-        List<GroupScheduleAttachment> attachments = new ArrayList<>();
-        if (files != null && files.length > 0)
-            for (int i = 0; i < files.length; i++) {
-                if (files[i] != null) // 논리 AND 조건으로 수정
-                    attachments.add(generateAttachment(files[i], registSchedule, i));
-            }
-        registSchedule.setGroupScheduleAttachments(attachments);
+        // 첨부파일 동시 업로드
+        savedSchedule.setGroupScheduleAttachments(uploadAttachments(files, savedSchedule));
 
-        return groupScheduleRepository.save(registSchedule);
+        return groupScheduleRepository.save(savedSchedule);
     }
 
     /* 그룹 일정 수정
@@ -155,11 +171,12 @@ public class GroupScheduleService {
         //복사해서 바꿔야 오류가 안납니다...
         List<GroupScheduleAttachment> attachmentsCopy = new ArrayList<>(updateSchedule.getGroupScheduleAttachments());
 
-        //새로운거에 없음 -> 기존 DB에서 삭제
+        //새로운거에 없음 -> 기존 DB에서 삭제 (다른 일정이 참조하지 않는 파일만 S3 에서 삭제)
         if (attachmentsCopy != null && attachmentsCopy.size() > 0) {
+            List<String> removedPaths = new ArrayList<>();
             for (GroupScheduleAttachment attachment : attachmentsCopy) {
                 if (!newAttachMD5s.contains(attachment.getFileMd5())) {
-                    s3Service.deleteS3File(attachment.getFilePath());
+                    removedPaths.add(attachment.getFilePath());
                     updateSchedule.removeAttachment(attachment);
                     attachment.setGroupSchedule(null);
                     groupScheduleAttachmentRepository.delete(attachment);
@@ -167,20 +184,64 @@ public class GroupScheduleService {
             }
             System.out.println("삭제삭제요");
             groupScheduleAttachmentRepository.flush();
+            attachmentStorage.release(removedPaths);
         }
 
-        //기존거에 없음 -> 기존거에 새로운거 추가
-        if (newAttachMD5s != null && newAttachMD5s.size() > 0) {
-            for (int i = 0; i < newAttachMD5s.size(); i++) {
-                if (!existAttachMD5s.contains(newAttachMD5s.get(i))) {
-                    GroupScheduleAttachment newAttach = generateAttachment(files[i], updateSchedule, i);
-                    updateSchedule.addAttachment(newAttach);
+        //기존거에 없음 -> 기존거에 새로운거 추가 (동시 업로드, 파일 위치를 분류 번호로 유지)
+        if (files != null && files.length > 0) {
+            MultipartFile[] newFiles = new MultipartFile[files.length];
+            int md5Index = 0;
+            for (int i = 0; i < files.length; i++) {
+                if (files[i] != null && !existAttachMD5s.contains(newAttachMD5s.get(md5Index++))) {
+                    newFiles[i] = files[i];
                 }
             }
+            List<GroupScheduleAttachment> newAttachments = uploadAttachments(newFiles, updateSchedule);
+            for (GroupScheduleAttachment newAttach : newAttachments) {
+                updateSchedule.addAttachment(newAttach);
+            }
         }
         return groupScheduleRepository.save(updateSchedule);
     }
 
+    /**
+     * presigned url 로 업로드를 마친 그룹 일정 첨부파일 저장 (메타데이터만 저장)
+     * 파일 해시는 S3 ETag(단일 PUT 이면 MD5)로 기존 저장값과 같은 형식을 만듦.
+     *
+     * @param userId          회원 id (그룹 관리자)
+     * @param groupScheduleId 그룹 일정 id
+     * @param slots           업로드 확인된 슬롯
+     * @return 저장된 첨부파일
+     */
+    public List<GroupScheduleAttachment> addUploadedAttachments(String userId, Long groupScheduleId, List<UploadSlot> slots) {
+        GroupSchedule schedule = groupScheduleRepository.findById(groupScheduleId)
+                .orElseThrow(() -> new NoSuchElementException("일정이 조회되지 않습니다."));
+        groupManagerRepository.checkUserIsManager(userId, schedule.getCoGroup().getId())
+                .orElseThrow(() -> new NoSuchElementException("해당 그룹의 관리자가 아닙니다."));
+
+        List<GroupScheduleAttachment> saved = new ArrayList<>();
+        for (UploadSlot slot : slots) {
+            GroupScheduleAttachment attachment = new GroupScheduleAttachment();
+            attachment.setFileName(slot.getFileName());
+            attachment.setFilePath(s3Service.urlOf(slot.getKey()));
+            attachment.setFileMd5(fileMd5OfETag(slot.getETag()));
+            attachment.setGroupSchedule(schedule);
+            schedule.addAttachment(attachment);
+            saved.add(attachment);
+        }
+        groupScheduleAttachmentRepository.saveAll(saved);
+        return saved;
+    }
+
+    // 단일 PUT 의 ETag 는 MD5 hex, multipart 업로드의 ETag 는 MD5 가 아니므로 그대로 사용
+    private String fileMd5OfETag(String eTag) {
+        String hex = eTag == null ? "" : eTag.replace("\"", "");
+        if (hex.matches("[0-9a-fA-F]{32}")) {
+            return UploadedFile.fileMd5Of(HexFormat.of().parseHex(hex), "attachments");
+        }
+        return hex + "attachments";
+    }
+
     /* 그룹 일정 삭제
     해당 멤버가 관리자인지 확인
         -> 관리자라면 일정 조회
@@ -192,24 +253,17 @@ public class GroupScheduleService {
         GroupManager checkUser = groupManagerRepository.checkUserIsManager(memberId, groupId)
                 .orElseThrow(() -> new NoSuchElementException("해당 그룹의 관리자가 아닙니다."));
 
-        GroupSchedule deleteSchedule = groupScheduleRepository.findById(scheduleId)
-                .orElseThrow(() -> new NoSuchElementException("일정이 조회되지 않습니다."));
+        if (!groupScheduleRepository.existsByIdAndCoGroupId(scheduleId, groupId))
+            throw new NoSuchElementException("일정이 조회되지 않습니다.");
 
-        if (deleteSchedule.getGroupScheduleAttachments() != null && deleteSchedule.getGroupScheduleAttachments().size() > 0) {
-            //aws에서 파일 지운 후 DB에서 삭제
-            for (GroupScheduleAttachment attachment : deleteSchedule.getGroupScheduleAttachments())
-                s3Service.deleteS3File(attachment.getFilePath());
+        //DB에서 삭제 (테이블 당 DELETE 1회) 후 다른 일정이 참조하지 않는 파일만 커밋 이후 aws에서 삭제
+        List<String> filePaths = groupScheduleAttachmentRepository.findFilePathsByGroupScheduleId(scheduleId);
 
-            groupScheduleAttachmentRepository.deleteAll(deleteSchedule.getGroupScheduleAttachments());
-        }
+        groupScheduleHeartRepository.deleteAllByGroupScheduleId(scheduleId);
+        groupScheduleAttachmentRepository.deleteAllByGroupScheduleId(scheduleId);
+        attachmentStorage.release(filePaths);
 
-        groupScheduleRepository.delete(deleteSchedule);
-        groupScheduleRepository.flush();
-
-        if (groupScheduleRepository.existsById(scheduleId))
-            return false;
-        else
-            return true;
+        return groupScheduleRepository.deleteByIdAndGroupId(scheduleId, groupId) == 1;
     }
 
     /* 내 일정으로 가져오기(하트 버튼)
@@ -243,6 +297,8 @@ public class GroupScheduleService {
 
         if (groupSchedule.getGroupScheduleAttachments() != null && !groupSchedule.getGroupScheduleAttachments().isEmpty()) {
             for (GroupScheduleAttachment attachment : groupSchedule.getGroupScheduleAttachments()) {
+                // 같은 파일을 가리키므로 참조 수만 추가
+                attachmentStorage.retainPath(attachment.getFilePath());
                 PersonalScheduleAttachment newAttachment = PersonalScheduleAttachment.builder()
                         .filePath(attachment.getFilePath())
                         .fileName(attachment.getFileName())
@@ -254,6 +310,7 @@ public class GroupScheduleService {
         }
         personalSchedule.update(attachments);
         personalSchedule = personalScheduleRepository.save(personalSchedule);
+        weekScheduleCache.evict(member.getId(), personalSchedule.getStartTime(), personalSchedule.getEndTime());
         // 하트 등록
         GroupScheduleHeart heart = new GroupScheduleHeart();
         heart.setGroupSchedule(groupSchedule);
@@ -280,7 +337,7 @@ public class GroupScheduleService {
         LocalDateTime endDate = date.atTime(LocalTime.of(23, 59, 59));
 
         List<PersonalSchedule> memberSchedule = personalScheduleRepository.findPersonalScheduleByDateRange(memberId, startDate, endDate);
-        List<GroupSchedule> newSchedule = group.getGroupSchedule();
+        List<GroupSchedule> newSchedule = new ArrayList<>();
 
         if (memberSchedule != null && memberSchedule.size() > 0) {
             for (PersonalSchedule personalSchedule : memberSchedule) {
@@ -298,9 +355,9 @@ public class GroupScheduleService {
                 newSchedule.add(groupSchedule);
             }
         }
-        group.setGroupSchedule(newSchedule);
-        groupRepository.save(group);
-        groupRepository.flush();
+        // 그룹의 기존 일정 컬렉션을 로딩하지 않고 새 일정만 일괄 저장
+        groupScheduleRepository.saveAll(newSchedule);
+        groupScheduleRepository.flush();
 
         return groupScheduleRepository.findGroupSchedule(groupId, startDate, endDate);
     }
@@ -0,0 +1,327 @@
+package project.coca.schedule;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+import project.coca.schedule.request.MultipartInitRequest;
+import project.coca.schedule.request.MultipartPartsRequest;
+import project.coca.schedule.response.MultipartPartResponse;
+import project.coca.schedule.response.MultipartUploadResponse;
+import project.coca.schedule.response.UploadedFileResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 큰 일정 첨부파일의 이어 올리기 (S3 multipart 업로드)
+ * 1. 시작 : 권한과 크기를 확인하고 S3 multipart 업로드 생성, 세션은 Redis(upload:multipart:{uploadId})에 보관
+ * 2. part url 발급 : part 별 presigned PUT (크기와 SHA-256 이 서명에 포함), 실패한 part 는 url 을 다시 받아 그 part 만 재전송
+ * 3. 상태 : S3 ListParts 로 올라간 part 를 알려주므로 중단된 업로드는 빠진 part 만 이어 올림
+ * 4. 완료 : 모든 part 가 올라갔는지 확인 후 합치고 메타데이터만 짧은 트랜잭션으로 저장
+ * part 는 클라이언트와 S3 사이에서 직접 전송되므로 서버는 파일 크기와 관계없이 요청 스레드와 메모리를 점유하지 않음.
+ * 완료되지 않고 만료된 업로드는 주기적으로 취소함.
+ */
+@Slf4j
+@Service
+public class MultipartUploadService {
+    private static final String SESSION_KEY_PREFIX = "upload:multipart:";
+    private static final String COMPLETING_KEY_SUFFIX = ":completing";
+    // S3 multipart 업로드 제한 (마지막 part 제외 최소 5MB, 최대 10000개)
+    private static final long MIN_PART_SIZE = DataSize.ofMegabytes(5).toBytes();
+    private static final int MAX_PART_COUNT = 10000;
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final S3Service s3Service;
+    private final S3DeleteQueue s3DeleteQueue;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final UploadSlotService uploadSlotService;
+    private final Duration uploadExpiration;
+    private final Duration sessionTtl;
+    private final DataSize maxFileSize;
+    private final long partSize;
+    private final int maxPartsPerRequest;
+
+    public MultipartUploadService(S3Service s3Service,
+                                  S3DeleteQueue s3DeleteQueue,
+                                  StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  UploadSlotService uploadSlotService,
+                                  @Value("${s3.upload.presign-expiration:10m}") Duration uploadExpiration,
+                                  @Value("${s3.multipart.session-ttl:24h}") Duration sessionTtl,
+                                  @Value("${s3.multipart.max-file-size:2GB}") DataSize maxFileSize,
+                                  @Value("${s3.multipart.part-size:8MB}") DataSize partSize,
+                                  @Value("${s3.multipart.max-parts-per-request:100}") int maxPartsPerRequest) {
+        this.s3Service = s3Service;
+        this.s3DeleteQueue = s3DeleteQueue;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.uploadSlotService = uploadSlotService;
+        this.uploadExpiration = uploadExpiration;
+        this.sessionTtl = sessionTtl;
+        this.maxFileSize = maxFileSize;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize.toBytes());
+        this.maxPartsPerRequest = maxPartsPerRequest;
+    }
+
+    /**
+     * multipart 업로드 시작
+     *
+     * @param memberId 요청 회원 id
+     * @param request  용도, 대상 일정 id, 파일 이름 / 형식 / 크기
+     * @return 업로드 id 와 part 크기 / 개수
+     * @throws NoSuchElementException   대상이 없거나 권한이 없는 경우
+     * @throws IllegalArgumentException 용도 / 크기가 허용되지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public MultipartUploadResponse init(String memberId, MultipartInitRequest request) {
+        if (request.getPurpose() != UploadPurpose.PERSONAL_SCHEDULE && request.getPurpose() != UploadPurpose.GROUP_SCHEDULE) {
+            throw new IllegalArgumentException("일정 첨부파일만 나누어 업로드할 수 있습니다.");
+        }
+        if (request.getSize() <= 0 || request.getSize() > maxFileSize.toBytes()) {
+            throw new IllegalArgumentException("파일 크기는 " + maxFileSize.toMegabytes() + "MB 이하여야 합니다.");
+        }
+        Long groupId = uploadSlotService.checkTarget(memberId, request.getPurpose(), request.getTargetId(), List.of());
+        String fileName = uploadSlotService.sanitizeFileName(request.getFileName());
+        String contentType = request.getContentType() != null && !request.getContentType().isBlank()
+                ? request.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+
+        // part 수가 S3 제한을 넘지 않도록 큰 파일은 part 크기를 늘림
+        long size = request.getSize();
+        long filePartSize = Math.max(partSize, (size + MAX_PART_COUNT - 1) / MAX_PART_COUNT);
+        int partCount = (int) ((size + filePartSize - 1) / filePartSize);
+
+        String uploadId = UUID.randomUUID().toString();
+        String key = s3Service.multipartKey(uploadId);
+        String s3UploadId = s3Service.createMultipartUpload(key, contentType);
+        MultipartUploadSession session = new MultipartUploadSession(uploadId, memberId, request.getPurpose(),
+                request.getTargetId(), groupId, key, s3UploadId, fileName, contentType, size, filePartSize, partCount,
+                Instant.now().plus(sessionTtl));
+        saveSession(session);
+        return responseOf(session, List.of());
+    }
+
+    /**
+     * part 업로드 url 발급 (이미 올린 part 도 다시 발급받아 덮어쓸 수 있음)
+     *
+     * @throws NoSuchElementException   업로드가 없거나 만료된 경우
+     * @throws IllegalArgumentException part 번호 / SHA-256 이 잘못된 경우
+     */
+    public List<MultipartPartResponse> presignParts(String memberId, String uploadId, MultipartPartsRequest request) {
+        MultipartUploadSession session = findSession(memberId, uploadId);
+        List<MultipartPartsRequest.PartInfo> parts = request.getParts();
+        if (parts == null || parts.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 part 가 없습니다.");
+        }
+        if (parts.size() > maxPartsPerRequest) {
+            throw new IllegalArgumentException("한 번에 요청할 수 있는 part 는 " + maxPartsPerRequest + "개입니다.");
+        }
+        // url 이 세션보다 오래 유효하지 않도록 함
+        Duration remaining = Duration.between(Instant.now(), session.getExpiresAt());
+        Duration expiration = remaining.compareTo(uploadExpiration) < 0 ? remaining : uploadExpiration;
+        if (expiration.isNegative() || expiration.isZero()) {
+            throw new NoSuchElementException("업로드가 조회되지 않습니다.");
+        }
+
+        List<MultipartPartResponse> responses = new ArrayList<>();
+        for (MultipartPartsRequest.PartInfo part : parts) {
+            if (part.getPartNumber() < 1 || part.getPartNumber() > session.getPartCount()) {
+                throw new IllegalArgumentException("part 번호는 1 ~ " + session.getPartCount() + " 입니다.");
+            }
+            String sha256 = part.getSha256() == null ? "" : part.getSha256().toLowerCase(Locale.ROOT);
+            if (!SHA256_HEX.matcher(sha256).matches()) {
+                throw new IllegalArgumentException("part 의 SHA-256 이 필요합니다.");
+            }
+            PresignedUploadPartRequest presigned = s3Service.presignUploadPart(session.getKey(), session.getS3UploadId(),
+                    part.getPartNumber(), session.sizeOfPart(part.getPartNumber()), sha256, expiration);
+            responses.add(MultipartPartResponse.builder()
+                    .partNumber(part.getPartNumber())
+                    .uploadUrl(presigned.url().toString())
+                    .headers(uploadSlotService.clientHeaders(presigned.signedHeaders()))
+                    .expiresAt(presigned.expiration())
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 업로드 상태 (올라간 part 번호)
+     *
+     * @throws NoSuchElementException 업로드가 없거나 만료된 경우
+     */
+    public MultipartUploadResponse status(String memberId, String uploadId) {
+        MultipartUploadSession session = findSession(memberId, uploadId);
+        try {
+            return responseOf(session, uploadedParts(session).keySet().stream().toList());
+        } catch (NoSuchUploadException e) {
+            throw new NoSuchElementException("업로드가 조회되지 않습니다.");
+        }
+    }
+
+    /**
+     * 업로드 완료 후 메타데이터 저장
+     * 빠진 part 가 있으면 완료하지 않으므로 빠진 part 를 올린 뒤 다시 요청하면 됨.
+     *
+     * @return 저장된 첨부파일
+     * @throws NoSuchElementException   업로드가 없거나 만료된 경우
+     * @throws IllegalArgumentException 올라가지 않은 part 가 있거나 이미 완료 중인 경우
+     */
+    public UploadedFileResponse complete(String memberId, String uploadId) {
+        MultipartUploadSession session = findSession(memberId, uploadId);
+        String completingKey = SESSION_KEY_PREFIX + uploadId + COMPLETING_KEY_SUFFIX;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(completingKey, memberId, Duration.ofMinutes(5)))) {
+            throw new IllegalArgumentException("이미 완료 처리 중인 업로드입니다.");
+        }
+        try {
+            String eTag = completeUpload(session);
+            UploadSlot slot = new UploadSlot(uploadId, memberId, session.getPurpose(), session.getTargetId(),
+                    session.getGroupId(), session.getKey(), null, session.getFileName(), session.getContentType(),
+                    session.getSize(), eTag);
+            List<UploadedFileResponse> saved;
+            try {
+                saved = uploadSlotService.saveMetadata(memberId, slot, List.of(slot));
+            } catch (RuntimeException e) {
+                // 메타데이터가 저장되지 않은 파일은 삭제
+                s3DeleteQueue.enqueueNow(List.of(s3Service.urlOf(session.getKey())));
+                deleteSession(uploadId);
+                throw e;
+            }
+            deleteSession(uploadId);
+            return saved.get(0);
+        } finally {
+            redisTemplate.delete(completingKey);
+        }
+    }
+
+    /**
+     * 업로드 취소 (올라간 part 삭제)
+     *
+     * @throws NoSuchElementException 업로드가 없거나 만료된 경우
+     */
+    public void abort(String memberId, String uploadId) {
+        MultipartUploadSession session = findSession(memberId, uploadId);
+        s3Service.abortMultipartUpload(session.getKey(), session.getS3UploadId());
+        deleteSession(uploadId);
+    }
+
+    /**
+     * 세션이 만료되었지만 완료 / 취소되지 않은 S3 multipart 업로드 취소 (올라간 part 의 저장 비용 정리)
+     */
+    @Scheduled(fixedDelayString = "${s3.multipart.cleanup-delay:3600000}", initialDelayString = "${s3.multipart.cleanup-delay:3600000}")
+    public void abortExpired() {
+        Instant threshold = Instant.now().minus(sessionTtl);
+        try {
+            for (MultipartUpload upload : s3Service.listMultipartUploads(s3Service.multipartFolderPath())) {
+                if (upload.initiated() != null && upload.initiated().isBefore(threshold)) {
+                    s3Service.abortMultipartUpload(upload.key(), upload.uploadId());
+                    log.info("만료된 multipart 업로드 취소 : {}", upload.key());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("만료된 multipart 업로드 정리 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 part 가 올라갔는지 확인 후 S3 multipart 업로드 완료
+     * 이전 완료 요청에서 S3 완료 후 메타데이터 저장 전에 중단되었으면 완성된 파일을 그대로 사용
+     *
+     * @return 완성된 파일의 ETag
+     */
+    private String completeUpload(MultipartUploadSession session) {
+        Map<Integer, Part> parts;
+        try {
+            parts = uploadedParts(session);
+        } catch (NoSuchUploadException e) {
+            return s3Service.headObject(session.getKey())
+                    .filter(head -> head.contentLength() != null && head.contentLength() == session.getSize())
+                    .map(HeadObjectResponse::eTag)
+                    .orElseThrow(() -> new NoSuchElementException("업로드가 조회되지 않습니다."));
+        }
+        if (parts.size() != session.getPartCount()) {
+            List<Integer> missing = new ArrayList<>();
+            for (int partNumber = 1; partNumber <= session.getPartCount(); partNumber++) {
+                if (!parts.containsKey(partNumber)) {
+                    missing.add(partNumber);
+                }
+            }
+            throw new IllegalArgumentException("업로드되지 않은 part 가 있습니다 : " + missing);
+        }
+        return s3Service.completeMultipartUpload(session.getKey(), session.getS3UploadId(), List.copyOf(parts.values()));
+    }
+
+    /**
+     * 세션의 part 크기와 맞게 올라간 part (part 번호 순)
+     */
+    private Map<Integer, Part> uploadedParts(MultipartUploadSession session) {
+        Map<Integer, Part> parts = new TreeMap<>();
+        for (Part part : s3Service.listParts(session.getKey(), session.getS3UploadId())) {
+            int partNumber = part.partNumber();
+            if (partNumber >= 1 && partNumber <= session.getPartCount()
+                    && part.size() != null && part.size() == session.sizeOfPart(partNumber)) {
+                parts.put(partNumber, part);
+            }
+        }
+        return parts;
+    }
+
+    private MultipartUploadResponse responseOf(MultipartUploadSession session, List<Integer> uploadedParts) {
+        return MultipartUploadResponse.builder()
+                .uploadId(session.getUploadId())
+                .fileName(session.getFileName())
+                .size(session.getSize())
+                .partSize(session.getPartSize())
+                .partCount(session.getPartCount())
+                .uploadedParts(uploadedParts)
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+
+    private void saveSession(MultipartUploadSession session) {
+        try {
+            redisTemplate.opsForValue().set(SESSION_KEY_PREFIX + session.getUploadId(),
+                    objectMapper.writeValueAsString(session), sessionTtl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private MultipartUploadSession findSession(String memberId, String uploadId) {
+        String value = redisTemplate.opsForValue().get(SESSION_KEY_PREFIX + uploadId);
+        if (value == null) {
+            throw new NoSuchElementException("업로드가 조회되지 않습니다.");
+        }
+        MultipartUploadSession session;
+        try {
+            session = objectMapper.readValue(value, MultipartUploadSession.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        if (!session.getMemberId().equals(memberId)) {
+            throw new NoSuchElementException("업로드가 조회되지 않습니다.");
+        }
+        return session;
+    }
+
+    private void deleteSession(String uploadId) {
+        try {
+            redisTemplate.delete(SESSION_KEY_PREFIX + uploadId);
+        } catch (Exception e) {
+            log.warn("multipart 업로드 세션 삭제 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package project.coca.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 진행 중인 multipart 업로드 (upload:multipart:{uploadId})
+ * 어떤 part 가 올라갔는지는 S3 의 ListParts 로 확인하므로 여기에는 업로드 정보만 보관함.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartUploadSession {
+    private String uploadId;
+    // 업로드를 시작한 회원
+    private String memberId;
+    private UploadPurpose purpose;
+    private Long targetId;
+    // 그룹 일정 첨부파일인 경우 그룹 id
+    private Long groupId;
+    private String key;
+    // S3 가 발급한 multipart upload id
+    private String s3UploadId;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private long partSize;
+    private int partCount;
+    private Instant expiresAt;
+
+    /**
+     * part 번호(1부터)별 크기, 마지막 part 만 작을 수 있음
+     */
+    public long sizeOfPart(int partNumber) {
+        return partNumber < partCount ? partSize : size - partSize * (partCount - 1);
+    }
+}
@@ -1,13 +1,31 @@
 package project.coca.schedule;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.personal.PersonalSchedule;
 import project.coca.domain.personal.PersonalScheduleAttachment;
 
 import java.util.List;
 
 public interface PersonalScheduleAttachmentRepository extends JpaRepository<PersonalScheduleAttachment, Long> {
-    void deleteAllByPersonalSchedule(PersonalSchedule personalSchedule);
+    /**
+     * 개인 일정의 첨부파일 일괄 삭제 (단일 DELETE 문)
+     * 호출 측이 일정 엔티티를 계속 사용하므로 영속성 컨텍스트는 비우지 않음.
+     * 일정의 attachments 컬렉션은 호출 측에서 함께 비워야 함.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PersonalScheduleAttachment a where a.personalSchedule = :personalSchedule")
+    int deleteAllByPersonalSchedule(PersonalSchedule personalSchedule);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from PersonalScheduleAttachment a where a.personalSchedule.id = :scheduleId")
+    int deleteAllByPersonalScheduleId(Long scheduleId);
+
+    @Query("select a.filePath from PersonalScheduleAttachment a where a.personalSchedule.id = :scheduleId")
+    List<String> findFilePathsByPersonalScheduleId(Long scheduleId);
 
     List<PersonalScheduleAttachment> findByPersonalSchedule(PersonalSchedule personalSchedule);
+
+    boolean existsByFilePath(String filePath);
 }
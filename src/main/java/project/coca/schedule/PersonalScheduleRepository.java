@@ -1,10 +1,13 @@
 package project.coca.schedule;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import project.coca.domain.personal.PersonalSchedule;
+import project.coca.friend.response.FriendScheduleRow;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PersonalScheduleRepository extends JpaRepository<PersonalSchedule, Long> {
@@ -27,4 +30,26 @@ public interface PersonalScheduleRepository extends JpaRepository<PersonalSchedu
             "((s.startTime < :startDate) AND (s.endTime > :endDate)))" +
             "ORDER BY s.startTime ASC")
     List<PersonalSchedule> findPersonalScheduleByDateRange(String memberId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 여러 회원의 기간 일정 목록을 한 번에 조회 (친구 주간 일정용)
+     * 비공개 일정은 제목을 "비공개 일정"으로 바꿔서 반환
+     *
+     * @param memberIds 회원 id 목록
+     * @param startDate 기간 시작
+     * @param endDate   기간 끝
+     */
+    @Query("SELECT new project.coca.friend.response.FriendScheduleRow(" +
+            "s.member.id, CASE WHEN s.isPrivate = true THEN '비공개 일정' ELSE s.title END, " +
+            "s.startTime, s.endTime, s.isPrivate) " +
+            "FROM PersonalSchedule s WHERE s.member.id IN :memberIds " +
+            "AND s.startTime <= :endDate AND s.endTime >= :startDate " +
+            "ORDER BY s.startTime ASC")
+    List<FriendScheduleRow> findFriendSchedulesByDateRange(Collection<String> memberIds,
+                                                           LocalDateTime startDate, LocalDateTime endDate);
+
+    // 첨부파일을 먼저 일괄 삭제한 뒤 호출해야 함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from PersonalSchedule s where s.id = :scheduleId")
+    int deleteInBulkById(Long scheduleId);
 }
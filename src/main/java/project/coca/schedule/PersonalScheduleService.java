@@ -13,12 +13,14 @@ import project.coca.member.MemberRepository;
 import project.coca.schedule.request.PersonalScheduleRequest;
 
 import java.io.IOException;
-import java.net.URL;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
 @Service
 @Transactional
@@ -29,6 +31,9 @@ public class PersonalScheduleService {
     private final MemberRepository memberRepository;
     private final S3Service s3Service;
     private final PersonalScheduleAttachmentRepository personalScheduleAttachmentRepository;
+    private final WeekScheduleCache weekScheduleCache;
+    private final AttachmentUploader attachmentUploader;
+    private final AttachmentStorage attachmentStorage;
 
     /**
      * 09. 개인 일정 등록
@@ -51,15 +56,10 @@ public class PersonalScheduleService {
 
         // 일정 저장
         PersonalSchedule savedSchedule = personalScheduleRepository.save(personalSchedule);
+        weekScheduleCache.evict(foundMember.getId(), savedSchedule.getStartTime(), savedSchedule.getEndTime());
 
-        // 새로운 첨부 파일 추가
-        if (attachments != null) { // 첨부파일이 존재 확인
-            for (MultipartFile attachment : attachments) {
-                if (attachment != null) {
-                    saveAttachment(username, savedSchedule, attachment);
-                }
-            }
-        }
+        // 새로운 첨부 파일 추가 (동시 업로드)
+        saveAttachments(username, savedSchedule, attachments);
         return savedSchedule;
     }
 
@@ -73,6 +73,7 @@ public class PersonalScheduleService {
      * @return List<PersonalSchedule>
      */
     @ExeTimer
+    @Transactional(readOnly = true)
     public List<PersonalSchedule> findPersonalSchedulesByDates(String memberId, LocalDate start, LocalDate end) {
         // LocalDate 에서 LocalDateTime 변환
         LocalDateTime startDT = start.atStartOfDay();
@@ -92,6 +93,8 @@ public class PersonalScheduleService {
                                                    MultipartFile[] attachments) throws IOException {
         PersonalSchedule found = personalScheduleRepository.findById(request.getId())
                 .orElseThrow(() -> new NoSuchElementException("일정이 조회되지 않습니다."));
+        // 수정 전 기간의 주간 일정 캐시 삭제
+        weekScheduleCache.evict(found.getMember().getId(), found.getStartTime(), found.getEndTime());
 
         // 수정된 내용 반영
         found.update(
@@ -103,39 +106,70 @@ public class PersonalScheduleService {
                 request.getColor(),
                 request.getIsPrivate()
         );
+        weekScheduleCache.evict(found.getMember().getId(), found.getStartTime(), found.getEndTime());
 
-        // 기존 첨부 파일 삭제
-        List<PersonalScheduleAttachment> oldAttachments = found.getAttachments();
-        for (PersonalScheduleAttachment old : oldAttachments) {
-            s3Service.deleteS3File(old.getFilePath());
-        }
+        // 기존 첨부 파일 삭제 (다른 일정이 같은 파일을 참조하지 않을 때만 S3 파일 삭제)
+        List<String> oldPaths = found.getAttachments().stream()
+                .map(PersonalScheduleAttachment::getFilePath)
+                .toList();
         personalScheduleAttachmentRepository.deleteAllByPersonalSchedule(found);
         found.getAttachments().clear();
+        attachmentStorage.release(oldPaths);
 
-        // 새로운 첨부 파일 추가
-        if (attachments != null) { // null 체크 추가
-            for (MultipartFile attachment : attachments) {
-                if (attachment != null) { // 논리 AND 조건으로 수정
-                    saveAttachment(username, found, attachment);
-                }
-            }
-        }
+        // 새로운 첨부 파일 추가 (동시 업로드)
+        saveAttachments(username, found, attachments);
 
         return found;
     }
 
 
-    private void saveAttachment(String username, PersonalSchedule personalSchedule, MultipartFile attachment) throws IOException {
-        URL savedUrl = s3Service.uploadPersonalScheduleFile(attachment, username, personalSchedule.getId(), 0);
-        PersonalScheduleAttachment personalScheduleAttachment = PersonalScheduleAttachment.builder()
-                .fileName(attachment.getOriginalFilename())
-                .filePath(savedUrl.toString())
-                .personalSchedule(personalSchedule)
-                .build();
-        personalSchedule.getAttachments().add(personalScheduleAttachment);
+    private void saveAttachments(String username, PersonalSchedule personalSchedule, MultipartFile[] attachments) throws IOException {
+        if (attachments == null) {
+            return;
+        }
+        // 업로드(참조 추가 포함)만 병렬로 수행하고, 엔티티 추가는 요청 스레드에서 순서대로
+        List<MultipartFile> files = Arrays.stream(attachments).filter(Objects::nonNull).toList();
+        List<UploadedFile> uploaded = attachmentUploader.uploadAll(attachments,
+                (attachment, index) -> attachmentStorage.upload(attachment),
+                UploadedFile::getUrl);
+        for (int i = 0; i < uploaded.size(); i++) {
+            personalSchedule.getAttachments().add(PersonalScheduleAttachment.builder()
+                    .fileName(files.get(i).getOriginalFilename())
+                    .filePath(uploaded.get(i).getUrl())
+                    .personalSchedule(personalSchedule)
+                    .build());
+        }
         log.info("총 저장된 첨부파일 {}", personalSchedule.getAttachments().size());
     }
 
+    /**
+     * presigned url 로 업로드를 마친 첨부파일 저장
+     * 파일 전송은 클라이언트와 S3 사이에서 끝났으므로 메타데이터만 짧은 트랜잭션으로 저장
+     *
+     * @param username           회원 id
+     * @param personalScheduleId 개인 일정 id
+     * @param slots              업로드 확인된 슬롯
+     * @return 저장된 첨부파일
+     */
+    @Transactional
+    public List<PersonalScheduleAttachment> addUploadedAttachments(String username, Long personalScheduleId, List<UploadSlot> slots) {
+        PersonalSchedule found = personalScheduleRepository.findById(personalScheduleId)
+                .orElseThrow(() -> new NoSuchElementException("일정이 조회되지 않습니다."));
+        if (!found.getMember().getId().equals(username)) {
+            throw new NoSuchElementException("일정이 조회되지 않습니다.");
+        }
+        List<PersonalScheduleAttachment> saved = new ArrayList<>();
+        for (UploadSlot slot : slots) {
+            saved.add(PersonalScheduleAttachment.builder()
+                    .fileName(slot.getFileName())
+                    .filePath(s3Service.urlOf(slot.getKey()))
+                    .personalSchedule(found)
+                    .build());
+        }
+        found.getAttachments().addAll(personalScheduleAttachmentRepository.saveAll(saved));
+        return saved;
+    }
+
     /**
      * 13. 개인 일정 삭제
      */
@@ -144,18 +178,16 @@ public class PersonalScheduleService {
     public void deletePersonalScheduleById(String memberId, Long personalScheduleId) {
         Member foundMember = memberRepository.findById(memberId).orElseThrow(() -> new NoSuchElementException("회원이 조회되지 않았습니다."));
 
-        PersonalSchedule foundPersonalSchedule = personalScheduleRepository.findById(personalScheduleId)
+        PersonalSchedule found = personalScheduleRepository.findById(personalScheduleId)
                 .orElseThrow(() -> new NoSuchElementException("일정이 조회되지 않았습니다."));
-
-        List<PersonalScheduleAttachment> files = personalScheduleAttachmentRepository.findByPersonalSchedule(foundPersonalSchedule);
-        // 각 파일의 URL을 사용하여 S3에서 파일 삭제
-        for (PersonalScheduleAttachment file : files) {
-            String path = file.getFilePath();
-            System.out.println(path);
-            s3Service.deleteS3File(path); // S3에서 파일 삭제
-        }
-        // 일정 삭제 수행
-        personalScheduleRepository.deleteById(personalScheduleId);
+        weekScheduleCache.evict(found.getMember().getId(), found.getStartTime(), found.getEndTime());
+
+        List<String> paths = personalScheduleAttachmentRepository.findFilePathsByPersonalScheduleId(personalScheduleId);
+        // 첨부파일, 일정 순으로 일괄 삭제 수행
+        personalScheduleAttachmentRepository.deleteAllByPersonalScheduleId(personalScheduleId);
+        personalScheduleRepository.deleteInBulkById(personalScheduleId);
+        // 다른 일정이 참조하지 않는 파일만 커밋 이후 S3 에서 삭제
+        attachmentStorage.release(paths);
     }
 
 }
@@ -0,0 +1,224 @@
+package project.coca.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.coca.domain.file.S3DeleteTask;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * S3 파일 삭제 대기열 (transactional outbox)
+ * - enqueue 는 호출한 트랜잭션에 삭제 작업 행을 추가하므로, 롤백되면 파일도 삭제되지 않음
+ * - 요청 스레드나 DB 트랜잭션이 S3 응답을 기다리지 않도록 worker 가 주기적으로 DeleteObjects(최대 1000개) 로 삭제
+ * - 실패한 파일은 지수 backoff 로 재시도
+ * - 내용 해시로 저장된 첨부파일은 참조가 없는 행을 삭제 중으로 표시한 뒤 트랜잭션 밖에서 파일을 삭제하고 행을 정리함.
+ *   삭제 중인 행은 참조를 추가할 수 없으므로(AttachmentStorage 가 정리될 때까지 기다린 뒤 다시 업로드), 확인과 삭제 사이에 다시 참조되는 경우가 없음.
+ */
+@Slf4j
+@Component
+public class S3DeleteQueue {
+    // DeleteObjects 한 번에 삭제할 수 있는 최대 key 수
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final S3Service s3Service;
+    private final StoredObjectRepository storedObjectRepository;
+    private final S3DeleteTaskRepository s3DeleteTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    public S3DeleteQueue(S3Service s3Service,
+                         StoredObjectRepository storedObjectRepository,
+                         S3DeleteTaskRepository s3DeleteTaskRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${s3.delete-queue.batch-size:1000}") int batchSize,
+                         @Value("${s3.delete-queue.lease:5m}") Duration lease,
+                         @Value("${s3.delete-queue.retry-backoff:10s}") Duration retryBackoff,
+                         @Value("${s3.delete-queue.max-retry-backoff:1h}") Duration maxRetryBackoff) {
+        this.s3Service = s3Service;
+        this.storedObjectRepository = storedObjectRepository;
+        this.s3DeleteTaskRepository = s3DeleteTaskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, batchSize));
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    public void enqueue(String url) {
+        if (url != null) {
+            enqueue(List.of(url));
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션에 삭제 작업 추가 (트랜잭션 밖에서 호출되면 바로 저장)
+     */
+    public void enqueue(Collection<String> urls) {
+        List<String> keys = keysOf(urls);
+        if (!keys.isEmpty()) {
+            s3DeleteTaskRepository.add(keys, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 호출한 트랜잭션과 관계없이 삭제 작업 저장 (업로드 실패 / 롤백으로 참조되지 않게 된 파일)
+     */
+    public void enqueueNow(Collection<String> urls) {
+        List<String> keys = keysOf(urls);
+        if (!keys.isEmpty()) {
+            s3DeleteTaskRepository.addNow(keys, LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${s3.delete-queue.fixed-delay:5000}")
+    public void drain() {
+        List<S3DeleteTask> tasks;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            tasks = s3DeleteTaskRepository.claim(batchSize, now, now.plus(lease));
+            if (!tasks.isEmpty()) {
+                process(tasks);
+            }
+        } while (tasks.size() == batchSize);
+    }
+
+    private void process(List<S3DeleteTask> tasks) {
+        Map<String, List<S3DeleteTask>> tasksByKey = new LinkedHashMap<>();
+        for (S3DeleteTask task : tasks) {
+            tasksByKey.computeIfAbsent(task.getObjectKey(), key -> new ArrayList<>()).add(task);
+        }
+        Map<String, String> hashKeys = new LinkedHashMap<>();
+        List<String> pathKeys = new ArrayList<>();
+        for (String key : tasksByKey.keySet()) {
+            Optional<String> hash = s3Service.hashOfKey(key);
+            if (hash.isPresent()) {
+                hashKeys.put(hash.get(), key);
+            } else {
+                pathKeys.add(key);
+            }
+        }
+
+        // 삭제하지 않고 완료 처리할 key 는 실패 목록에 넣지 않고, 삭제 요청한 key 만 결과를 받음
+        Map<String, String> failed = new HashMap<>();
+        failed.putAll(deleteKeys(pathKeys));
+        failed.putAll(deleteContentObjects(hashKeys));
+
+        List<Long> completed = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        tasksByKey.forEach((key, keyTasks) -> {
+            String error = failed.get(key);
+            for (S3DeleteTask task : keyTasks) {
+                if (error == null) {
+                    completed.add(task.getId());
+                } else {
+                    s3DeleteTaskRepository.retryAt(task.getId(), now.plus(backoff(task.getAttempts())), truncate(error));
+                    log.warn("S3 파일 삭제 실패, 재시도 예정 : {} ({}회), {}", key, task.getAttempts(), error);
+                }
+            }
+        });
+        s3DeleteTaskRepository.complete(completed);
+    }
+
+    /**
+     * 내용 해시 파일 삭제
+     * 1. 짧은 트랜잭션으로 참조가 없는 행을 삭제 중으로 표시 (이후 참조 추가는 행이 없는 것으로 처리됨)
+     * 2. 트랜잭션 밖에서 S3 파일 삭제 (DB 커넥션 / 행 잠금을 잡지 않음)
+     * 3. 짧은 트랜잭션으로 삭제한 행은 삭제, S3 가 거절한 행은 표시 해제
+     * 다시 참조된 파일이나 행이 이미 없는 파일(중복 작업)은 삭제하지 않고 완료 처리.
+     * S3 호출 자체가 실패하면 표시를 남겨두고 재시도함 (파일이 삭제되었을 수 있으므로 다시 참조하지 않도록).
+     *
+     * @param keysByHash 해시별 파일 key
+     * @return 삭제에 실패한 파일 key 와 오류 내용
+     */
+    private Map<String, String> deleteContentObjects(Map<String, String> keysByHash) {
+        if (keysByHash.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> failed;
+        List<String> deleting;
+        try {
+            deleting = transactionTemplate.execute(status -> {
+                storedObjectRepository.markDeleting(keysByHash.keySet());
+                return storedObjectRepository.findDeletingHashes(keysByHash.keySet());
+            });
+            if (deleting == null || deleting.isEmpty()) {
+                return Map.of();
+            }
+            failed = s3Service.deleteObjects(deleting.stream().map(keysByHash::get).toList());
+        } catch (Exception e) {
+            log.warn("S3 파일 일괄 삭제 실패 : {}건, {}", keysByHash.size(), e.getMessage());
+            return failAll(keysByHash.values(), e);
+        }
+        List<String> deleted = new ArrayList<>();
+        List<String> rejected = new ArrayList<>();
+        for (String hash : deleting) {
+            (failed.containsKey(keysByHash.get(hash)) ? rejected : deleted).add(hash);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!deleted.isEmpty()) {
+                    storedObjectRepository.deleteDeleting(deleted);
+                }
+                if (!rejected.isEmpty()) {
+                    storedObjectRepository.cancelDeleting(rejected);
+                }
+            });
+        } catch (Exception e) {
+            // 파일은 삭제되었으므로 재시도하면 행만 정리됨
+            log.warn("삭제한 파일의 행 정리 실패 : {}건, {}", deleting.size(), e.getMessage());
+            return failAll(keysByHash.values(), e);
+        }
+        return failed;
+    }
+
+    /**
+     * 이전 방식(일정별 경로), 프로필 이미지 등 참조 수가 없는 파일 삭제
+     */
+    private Map<String, String> deleteKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return s3Service.deleteObjects(keys);
+        } catch (Exception e) {
+            log.warn("S3 파일 일괄 삭제 실패 : {}건, {}", keys.size(), e.getMessage());
+            return failAll(keys, e);
+        }
+    }
+
+    private Map<String, String> failAll(Collection<String> keys, Exception e) {
+        Map<String, String> failed = new HashMap<>();
+        for (String key : keys) {
+            failed.put(key, String.valueOf(e.getMessage()));
+        }
+        return failed;
+    }
+
+    // 10s, 20s, 40s ... 최대 max-retry-backoff
+    private Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(0, attempts - 1), 20);
+        Duration delay = retryBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private List<String> keysOf(Collection<String> urls) {
+        return urls.stream()
+                .filter(Objects::nonNull)
+                .map(s3Service::keyOf)
+                .toList();
+    }
+}
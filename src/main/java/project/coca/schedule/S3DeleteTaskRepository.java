@@ -0,0 +1,76 @@
+package project.coca.schedule;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockOptions;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.coca.domain.file.S3DeleteTask;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 파일 삭제 작업 저장소
+ * 작업 가져오기는 FOR UPDATE SKIP LOCKED 로 여러 인스턴스가 같은 작업을 동시에 가져가지 않음.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class S3DeleteTaskRepository {
+    private final EntityManager em;
+
+    /**
+     * 호출한 트랜잭션에 삭제 작업 추가 (롤백되면 작업도 취소)
+     */
+    public void add(Collection<String> objectKeys, LocalDateTime now) {
+        for (String objectKey : objectKeys) {
+            em.persist(new S3DeleteTask(objectKey, now));
+        }
+    }
+
+    /**
+     * 별도 트랜잭션으로 삭제 작업 추가 (호출한 트랜잭션의 결과와 관계없이 삭제해야 하는 파일)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void addNow(Collection<String> objectKeys, LocalDateTime now) {
+        add(objectKeys, now);
+    }
+
+    /**
+     * 처리할 작업을 최대 limit 건 가져오고 임대 만료 시각까지 다른 worker 가 가져가지 않도록 표시
+     */
+    public List<S3DeleteTask> claim(int limit, LocalDateTime now, LocalDateTime leaseUntil) {
+        List<S3DeleteTask> tasks = em.createQuery(
+                        "select t from S3DeleteTask t where t.nextAttemptAt <= :now order by t.nextAttemptAt", S3DeleteTask.class)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", LockOptions.SKIP_LOCKED)
+                .getResultList();
+        for (S3DeleteTask task : tasks) {
+            task.claim(leaseUntil);
+        }
+        return tasks;
+    }
+
+    public int complete(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return em.createQuery("delete from S3DeleteTask t where t.id in :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    public int retryAt(Long id, LocalDateTime nextAttemptAt, String error) {
+        return em.createQuery("update S3DeleteTask t set t.nextAttemptAt = :next, t.lastError = :error where t.id = :id")
+                .setParameter("next", nextAttemptAt)
+                .setParameter("error", error)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -1,56 +1,122 @@
 package project.coca.schedule;
 
-import io.awspring.cloud.s3.ObjectMetadata;
-import io.awspring.cloud.s3.S3Operations;
-import io.awspring.cloud.s3.S3Resource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class S3Service {
-    private final S3Operations s3Operations;
+    // presigned PUT 에 서명하는 업로드 슬롯 id 메타데이터 (x-amz-meta-upload-slot)
+    public static final String UPLOAD_SLOT_METADATA = "upload-slot";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
     private final String profileFolderPath = "profile-images/";
-    private final String groupFolderPath = "groups/";
-    private final String personalFolderPath = "personals/";
+    private final String objectFolderPath = "objects/";
+    private final String multipartFolderPath = "attachments/";
     private final String BUCKET;
     private final String s3Url;
 
     public S3Service(
-            S3Operations s3Operations,
+            S3Client s3Client,
+            S3Presigner s3Presigner,
             @Value("${spring.cloud.aws.s3.bucket}") String bucket,
             @Value("${spring.cloud.aws.s3.url}") String s3Url
     ) {
-        this.s3Operations = s3Operations;
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
         this.BUCKET = bucket;
         this.s3Url = s3Url;
     }
 
+    /**
+     * multipart 파일을 S3 로 스트리밍 전송 (파일 전체를 heap 에 올리지 않음)
+     * SDK 가 재시도하면 스트림을 새로 염.
+     */
     private URL uploadFile(MultipartFile file, String key) throws IOException {
-        try (InputStream inputStream = file.getInputStream()) {
-            S3Resource s3Resource = s3Operations.upload(
-                    BUCKET,
-                    key,
-                    inputStream,
-                    ObjectMetadata.builder()
-                            .contentType(file.getContentType())
-                            .build()
-            );
-            return s3Resource.getURL();
+        ContentStreamProvider contentProvider = () -> {
+            try {
+                return file.getInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        String contentType = file.getContentType() != null ? file.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(BUCKET)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength(file.getSize())
+                            .build(),
+                    RequestBody.fromContentProvider(contentProvider, file.getSize(), contentType));
+            return s3Client.utilities().getUrl(GetUrlRequest.builder().bucket(BUCKET).key(key).build());
         } catch (Exception e) {
             System.err.println("🔴 Error in S3Service.uploadFile()");
             System.err.println(BUCKET);
             System.err.println(key);
-            throw new IOException("IO EXCEPTION IN S3Service.uploadFile()");
+            throw new IOException("IO EXCEPTION IN S3Service.uploadFile()", e);
         }
     }
 
+    /**
+     * 프로필 이미지 직접 업로드 (이전 방식의 multipart 요청)
+     * 이전 이미지와 썸네일을 덮어쓰지 않도록 매번 새 key(profile-images/{memberId}/{uuid}) 에 저장하므로,
+     * 호출한 쪽에서 이전 이미지와 썸네일을 삭제 큐에 등록해야 함.
+     */
     @Transactional
     public String uploadProfileImage(MultipartFile multipartFile, String memberId) throws IOException {
         if (!MediaType.IMAGE_PNG.toString().equals(multipartFile.getContentType()) &&
@@ -59,50 +125,311 @@ public class S3Service {
             throw new IllegalArgumentException("png, jpeg 파일만 업로드 가능합니다");
         }
 
-        return uploadFile(multipartFile, profileFolderPath + memberId).toString();
+        return uploadFile(multipartFile, profileImageKey(memberId, UUID.randomUUID().toString())).toString();
     }
 
     /**
-     * @param multipartFile      원본 파일
-     * @param memberId           회원 계정
-     * @param personalScheduleId 회원의 개인 일정 id
-     * @param divisionNum        분류 번호 ex) 파일 명 (1).png 형태로 저장, 0이면 없음
+     * 내용 해시 key 로 첨부파일 업로드
+     *
+     * @param multipartFile 원본 파일
+     * @param hash          파일 내용의 SHA-256 (hex)
      * @return AWS에 저장된 파일의 URL
-     * @throws IOException
      */
-    @Transactional
-    public URL uploadPersonalScheduleFile(MultipartFile multipartFile, String memberId, Long personalScheduleId, int divisionNum) throws IOException {
-        String divider = "";
-        if (divisionNum != 0) {
-            divider = "(" + divisionNum + ") ";
+    public URL uploadObject(MultipartFile multipartFile, String hash) throws IOException {
+        return uploadFile(multipartFile, objectKey(hash));
+    }
+
+    /**
+     * 첨부파일 key (내용 해시)
+     * 같은 내용의 파일은 어느 일정에 첨부되더라도 같은 key 를 사용함.
+     */
+    public String objectKey(String hash) {
+        return objectFolderPath + hash;
+    }
+
+    /**
+     * @param url : 파일이 저장된 url
+     * @return 내용 해시 key 로 저장된 첨부파일이면 해시, 이전 방식(일정별 경로)의 파일이면 empty
+     */
+    public Optional<String> hashOf(String url) {
+        if (url == null) {
+            return Optional.empty();
         }
-        return uploadFile(multipartFile, personalFolderPath + memberId + "/" + personalScheduleId + "/" + divider + multipartFile.getOriginalFilename());
+        return hashOfKey(keyOf(url));
+    }
+
+    public Optional<String> hashOfKey(String key) {
+        return key.startsWith(objectFolderPath) ? Optional.of(key.substring(objectFolderPath.length())) : Optional.empty();
     }
 
     /**
-     * @param multipartFile   : 원본 파일
-     * @param groupId         : 그룹 id
-     * @param groupScheduleId : 그룹 일정 id
-     * @param divisionNum     : 분류 번호를 직접 지정(1, 2, 3 등) ex) "(1) 파일 명.png" 형태로 저장, 0이면 없음
-     * @return AWS에 저장된 파일의 URL
-     * @throws IOException
+     * @param url : 회원 프로필 이미지 url
+     * @return 업로드된 프로필 이미지이면 true, 기본 이미지 등이면 false
      */
-    @Transactional
-    public URL uploadGroupScheduleFile(MultipartFile multipartFile, Long groupId, Long groupScheduleId, int divisionNum) throws IOException {
-        String divider = "";
-        if (divisionNum != 0) {
-            divider = "(" + divisionNum + ") ";
+    public boolean isUploadedProfileImage(String url) {
+        return url != null && url.startsWith(s3Url + profileFolderPath);
+    }
+
+    /**
+     * 업로드된 프로필 이미지 url 의 공통 prefix
+     */
+    public String profileImageUrlPrefix() {
+        return s3Url + profileFolderPath;
+    }
+
+    /**
+     * 프로필 이미지 업로드 슬롯의 key
+     * 업로드 확인 전에 기존 이미지를 덮어쓰지 않도록 슬롯 id 를 경로에 포함
+     */
+    public String profileImageKey(String memberId, String slotId) {
+        return profileFolderPath + memberId + "/" + slotId;
+    }
+
+    /**
+     * 파일 내용 전체 읽기 (썸네일 생성 등 작은 파일용)
+     *
+     * @param key     파일 key
+     * @param maxSize 읽을 수 있는 최대 크기 (byte), 넘으면 IllegalArgumentException
+     */
+    public byte[] readObject(String key, long maxSize) throws IOException {
+        try (ResponseInputStream<GetObjectResponse> inputStream =
+                     s3Client.getObject(GetObjectRequest.builder().bucket(BUCKET).key(key).build())) {
+            Long contentLength = inputStream.response().contentLength();
+            if (contentLength != null && contentLength > maxSize) {
+                inputStream.abort();
+                throw new IllegalArgumentException("파일 크기가 너무 큽니다 : " + key);
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * 메모리에서 만든 파일 저장 (썸네일 등)
+     *
+     * @return 저장된 파일의 url
+     */
+    public String putObject(String key, byte[] content, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(BUCKET)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength((long) content.length)
+                        .build(),
+                RequestBody.fromBytes(content));
+        return urlOf(key);
+    }
+
+    /**
+     * 클라이언트가 S3 로 직접 올릴 presigned PUT
+     * content-type 과 content-length 가 서명에 포함되므로 신청한 크기와 다른 파일은 S3 에서 거절됨.
+     * 슬롯 id 도 메타데이터로 서명하므로 HEAD 로 어느 슬롯이 올린 파일인지 확인할 수 있음.
+     *
+     * @param key         저장할 파일 key
+     * @param contentType 파일 content-type
+     * @param size        파일 크기 (byte)
+     * @param sha256      파일 SHA-256 (hex), 지정하면 서명에 포함되어 S3 가 내용을 검증함. null 이면 검증 안함
+     * @param slotId      업로드 슬롯 id
+     * @param expiration  url 유효 시간
+     * @return url 과 요청에 함께 보내야 하는 헤더
+     */
+    public PresignedPutObjectRequest presignUpload(String key, String contentType, long size, String sha256,
+                                                   String slotId, Duration expiration) {
+        PutObjectRequest.Builder putObjectRequest = PutObjectRequest.builder()
+                .bucket(BUCKET)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .metadata(Map.of(UPLOAD_SLOT_METADATA, slotId));
+        if (sha256 != null) {
+            putObjectRequest.checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)));
         }
-        return uploadFile(multipartFile, groupFolderPath + groupId + "/" + groupScheduleId + "/" + divider + multipartFile.getOriginalFilename());
+        return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .putObjectRequest(putObjectRequest.build())
+                .build());
+    }
+
+    /**
+     * multipart 업로드로 저장하는 첨부파일 key
+     */
+    public String multipartKey(String uploadId) {
+        return multipartFolderPath + uploadId;
+    }
+
+    public String multipartFolderPath() {
+        return multipartFolderPath;
+    }
+
+    /**
+     * multipart 업로드 시작 (part 마다 SHA-256 을 검증하도록 지정)
+     *
+     * @return S3 multipart upload id
+     */
+    public String createMultipartUpload(String key, String contentType) {
+        return s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(BUCKET)
+                .key(key)
+                .contentType(contentType)
+                .checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                .build()).uploadId();
+    }
+
+    /**
+     * 클라이언트가 S3 로 직접 올릴 part 의 presigned PUT
+     * 크기와 SHA-256 이 서명에 포함되므로 다르거나 손상된 part 는 S3 에서 거절됨.
+     *
+     * @param sha256 part 내용의 SHA-256 (hex)
+     */
+    public PresignedUploadPartRequest presignUploadPart(String key, String s3UploadId, int partNumber, long size,
+                                                       String sha256, Duration expiration) {
+        return s3Presigner.presignUploadPart(UploadPartPresignRequest.builder()
+                .signatureDuration(expiration)
+                .uploadPartRequest(UploadPartRequest.builder()
+                        .bucket(BUCKET)
+                        .key(key)
+                        .uploadId(s3UploadId)
+                        .partNumber(partNumber)
+                        .contentLength(size)
+                        .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)))
+                        .build())
+                .build());
+    }
+
+    /**
+     * 업로드된 part 목록 (part 번호 순)
+     *
+     * @throws NoSuchUploadException 이미 완료 / 취소되었거나 없는 업로드
+     */
+    public List<Part> listParts(String key, String s3UploadId) {
+        return s3Client.listPartsPaginator(ListPartsRequest.builder()
+                        .bucket(BUCKET)
+                        .key(key)
+                        .uploadId(s3UploadId)
+                        .build())
+                .parts()
+                .stream()
+                .toList();
+    }
+
+    /**
+     * 업로드된 part 를 하나의 파일로 합침
+     *
+     * @return 완성된 파일의 ETag
+     */
+    public String completeMultipartUpload(String key, String s3UploadId, List<Part> parts) {
+        return s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(BUCKET)
+                .key(key)
+                .uploadId(s3UploadId)
+                .multipartUpload(CompletedMultipartUpload.builder()
+                        .parts(parts.stream()
+                                .map(part -> CompletedPart.builder()
+                                        .partNumber(part.partNumber())
+                                        .eTag(part.eTag())
+                                        .checksumSHA256(part.checksumSHA256())
+                                        .build())
+                                .toList())
+                        .build())
+                .build()).eTag();
+    }
+
+    /**
+     * multipart 업로드 취소 (올라간 part 삭제), 이미 없는 업로드는 무시
+     */
+    public void abortMultipartUpload(String key, String s3UploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(BUCKET)
+                    .key(key)
+                    .uploadId(s3UploadId)
+                    .build());
+        } catch (NoSuchUploadException e) {
+            // 이미 완료 / 취소됨
+        }
+    }
+
+    /**
+     * 완료되지 않은 multipart 업로드 목록
+     */
+    public List<MultipartUpload> listMultipartUploads(String prefix) {
+        return s3Client.listMultipartUploadsPaginator(ListMultipartUploadsRequest.builder()
+                        .bucket(BUCKET)
+                        .prefix(prefix)
+                        .build())
+                .uploads()
+                .stream()
+                .toList();
+    }
+
+    /**
+     * 파일 다운로드용 presigned GET
+     *
+     * @param url        파일이 저장된 url
+     * @param fileName   다운로드 시 저장될 파일 이름
+     * @param expiration url 유효 시간
+     */
+    public PresignedGetObjectRequest presignDownload(String url, String fileName, Duration expiration) {
+        String encodedName = URLEncoder.encode(fileName, StandardCharsets.UTF_8).replace("+", "%20");
+        return s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(BUCKET)
+                        .key(keyOf(url))
+                        .responseContentDisposition("attachment; filename*=UTF-8''" + encodedName)
+                        .build())
+                .build());
+    }
+
+    /**
+     * 업로드된 파일 정보 (HEAD)
+     *
+     * @return 파일이 없으면 empty
+     */
+    public Optional<HeadObjectResponse> headObject(String key) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder().bucket(BUCKET).key(key).build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param key : 파일 key
+     * @return 파일이 저장된 url
+     */
+    public String urlOf(String key) {
+        return s3Client.utilities().getUrl(GetUrlRequest.builder().bucket(BUCKET).key(key).build()).toString();
     }
 
     /**
      * @param url : 파일이 저장된 url
+     * @return 파일 key (url 에 인코딩된 key 를 복원)
      */
-    @Transactional
-    public void deleteS3File(String url) {
-        String key = url.replace(s3Url, "");
-        System.out.println(key);
-        s3Operations.deleteObject(BUCKET, key);
+    public String keyOf(String url) {
+        return URLDecoder.decode(url.replace(s3Url, ""), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 여러 파일을 한 번의 요청으로 삭제 (DeleteObjects, 최대 1000개)
+     * 없는 파일은 삭제된 것으로 처리됨.
+     *
+     * @param keys 삭제할 파일 key
+     * @return 삭제에 실패한 파일 key 와 오류 내용
+     */
+    public Map<String, String> deleteObjects(List<String> keys) {
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(BUCKET)
+                .delete(Delete.builder()
+                        .objects(keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList())
+                        .quiet(true)
+                        .build())
+                .build());
+        return response.errors().stream()
+                .collect(Collectors.toMap(S3Error::key, error -> error.code() + " " + error.message(), (a, b) -> a));
     }
 }
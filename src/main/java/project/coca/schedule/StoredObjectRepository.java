@@ -0,0 +1,72 @@
+package project.coca.schedule;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import project.coca.domain.file.StoredObject;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StoredObjectRepository extends JpaRepository<StoredObject, String> {
+    /**
+     * 처음 저장되는 파일의 행 생성 (MySQL INSERT IGNORE)
+     *
+     * @return 생성했으면 1, 이미 행이 있으면(삭제 중 포함) 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert ignore into stored_object (content_hash, file_size, ref_count, created_at, deleting) " +
+            "values (:hash, :size, :count, :now, false)", nativeQuery = true)
+    int insertIfAbsent(String hash, long size, long count, LocalDateTime now);
+
+    /**
+     * 이미 저장된 파일의 참조 추가 (같은 내용 업로드, 일정 복사 등)
+     * 삭제 중인 행은 없는 것으로 취급함.
+     *
+     * @return 행이 없거나 삭제 중이면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update StoredObject o set o.refCount = o.refCount + :count where o.hash = :hash and o.deleting = false")
+    int retainExisting(String hash, long count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update StoredObject o set o.refCount = o.refCount - :count where o.hash = :hash")
+    int release(String hash, long count);
+
+    /**
+     * 현재 참조 수 (같은 트랜잭션에서 변경한 값 포함), 행이 없으면 null
+     */
+    @Query("select o.refCount from StoredObject o where o.hash = :hash")
+    Long findRefCount(String hash);
+
+    boolean existsByHashAndDeletingTrue(String hash);
+
+    /**
+     * 참조가 남지 않은 행을 삭제 중으로 표시 (S3 삭제 전, 짧은 트랜잭션)
+     * 표시된 뒤에는 retainExisting 이 0 을 반환하므로 S3 삭제와 참조 추가가 엇갈리지 않음.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update StoredObject o set o.deleting = true where o.hash in :hashes and o.refCount <= 0")
+    int markDeleting(Collection<String> hashes);
+
+    /**
+     * 삭제 중인 행 (이번에 표시한 행과, 이전 시도에서 S3 삭제를 마치지 못한 행)
+     */
+    @Query("select o.hash from StoredObject o where o.hash in :hashes and o.deleting = true")
+    List<String> findDeletingHashes(Collection<String> hashes);
+
+    /**
+     * S3 파일을 삭제한 행 삭제
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from StoredObject o where o.hash in :hashes and o.deleting = true")
+    int deleteDeleting(Collection<String> hashes);
+
+    /**
+     * S3 가 삭제를 거절한 행의 삭제 중 표시 해제 (파일이 남아있으므로 다시 참조 가능)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update StoredObject o set o.deleting = false where o.hash in :hashes and o.deleting = true")
+    int cancelDeleting(Collection<String> hashes);
+}
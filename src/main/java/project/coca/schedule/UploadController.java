@@ -0,0 +1,231 @@
+package project.coca.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import project.coca.auth.jwt.CustomUserDetails;
+import project.coca.common.ApiResponse;
+import project.coca.common.error.ErrorCode;
+import project.coca.common.success.ResponseCode;
+import project.coca.schedule.request.MultipartInitRequest;
+import project.coca.schedule.request.MultipartPartsRequest;
+import project.coca.schedule.request.UploadConfirmRequest;
+import project.coca.schedule.request.UploadSlotRequest;
+import project.coca.schedule.response.DownloadUrlResponse;
+import project.coca.schedule.response.MultipartPartResponse;
+import project.coca.schedule.response.MultipartUploadResponse;
+import project.coca.schedule.response.UploadSlotResponse;
+import project.coca.schedule.response.UploadedFileResponse;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * presigned url 업로드 / 다운로드
+ * 파일은 클라이언트와 S3 사이에서 직접 전송되고, 서버는 url 발급과 메타데이터 저장만 수행
+ * 큰 일정 첨부파일은 /multipart 로 part 단위로 나누어 올리고 중단되면 이어 올림
+ */
+@Slf4j
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/upload")
+public class UploadController {
+    private final UploadSlotService uploadSlotService;
+    private final MultipartUploadService multipartUploadService;
+
+    /**
+     * 업로드 슬롯 발급
+     *
+     * @param request 용도(PERSONAL_SCHEDULE, GROUP_SCHEDULE, PROFILE_IMAGE), 대상 일정 id, 파일 이름 / 형식 / 크기
+     * @return 파일별 presigned PUT url 과 함께 보내야 하는 헤더
+     * NOT_FOUND: 대상이 없거나 권한이 없는 경우
+     * BAD_REQUEST: 파일 수 / 크기 / 형식이 허용되지 않는 경우
+     */
+    @PostMapping("/slots")
+    public ApiResponse<List<UploadSlotResponse>> issueSlots(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestBody UploadSlotRequest request) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    uploadSlotService.issueSlots(customUserDetails.getUsername(), request));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("업로드 슬롯 발급 실패", e);
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 확인
+     *
+     * @param request S3 업로드를 마친 슬롯 id 목록
+     * @return 저장된 파일
+     * NOT_FOUND: 슬롯 / 업로드된 파일이 없는 경우
+     * BAD_REQUEST: 업로드된 파일의 크기가 신청한 크기와 다른 경우
+     */
+    @PostMapping("/confirm")
+    public ApiResponse<List<UploadedFileResponse>> confirm(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestBody UploadConfirmRequest request) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    uploadSlotService.confirm(customUserDetails.getUsername(), request.getSlotIds()));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("업로드 확인 실패", e);
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * multipart 업로드 시작
+     *
+     * @param request 용도(PERSONAL_SCHEDULE, GROUP_SCHEDULE), 대상 일정 id, 파일 이름 / 형식 / 크기
+     * @return 업로드 id 와 part 크기 / 개수
+     * NOT_FOUND: 대상이 없거나 권한이 없는 경우
+     * BAD_REQUEST: 용도 / 크기가 허용되지 않는 경우
+     */
+    @PostMapping("/multipart")
+    public ApiResponse<MultipartUploadResponse> initMultipart(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @RequestBody MultipartInitRequest request) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    multipartUploadService.init(customUserDetails.getUsername(), request));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("multipart 업로드 시작 실패", e);
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * part 업로드 url 발급 (실패한 part 는 다시 발급받아 재전송)
+     *
+     * @param request part 번호와 part 내용의 SHA-256
+     * @return part 별 presigned PUT url 과 함께 보내야 하는 헤더
+     * NOT_FOUND: 업로드가 없거나 만료된 경우
+     * BAD_REQUEST: part 번호 / SHA-256 이 잘못된 경우
+     */
+    @PostMapping("/multipart/{uploadId}/parts")
+    public ApiResponse<List<MultipartPartResponse>> presignParts(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PathVariable String uploadId,
+            @RequestBody MultipartPartsRequest request) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    multipartUploadService.presignParts(customUserDetails.getUsername(), uploadId, request));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("part 업로드 url 발급 실패", e);
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * multipart 업로드 상태 (이어 올릴 때 올라간 part 확인)
+     * NOT_FOUND: 업로드가 없거나 만료된 경우
+     */
+    @GetMapping("/multipart/{uploadId}")
+    public ApiResponse<MultipartUploadResponse> multipartStatus(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PathVariable String uploadId) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    multipartUploadService.status(customUserDetails.getUsername(), uploadId));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * multipart 업로드 완료
+     *
+     * @return 저장된 첨부파일
+     * NOT_FOUND: 업로드가 없거나 만료된 경우
+     * BAD_REQUEST: 올라가지 않은 part 가 있는 경우
+     */
+    @PostMapping("/multipart/{uploadId}/complete")
+    public ApiResponse<UploadedFileResponse> completeMultipart(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PathVariable String uploadId) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    multipartUploadService.complete(customUserDetails.getUsername(), uploadId));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.fail(ErrorCode.BAD_REQUEST, e.getMessage());
+        } catch (Exception e) {
+            log.error("multipart 업로드 완료 실패", e);
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * multipart 업로드 취소
+     * NOT_FOUND: 업로드가 없거나 만료된 경우
+     */
+    @DeleteMapping("/multipart/{uploadId}")
+    public ApiResponse<Boolean> abortMultipart(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PathVariable String uploadId) {
+        try {
+            multipartUploadService.abort(customUserDetails.getUsername(), uploadId);
+            return ApiResponse.response(ResponseCode.OK, true);
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 개인 일정 첨부파일 다운로드 url (일정 소유자만)
+     */
+    @GetMapping("/personal-attachments/{attachmentId}")
+    public ApiResponse<DownloadUrlResponse> personalAttachmentUrl(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PathVariable Long attachmentId) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    uploadSlotService.personalAttachmentUrl(customUserDetails.getUsername(), attachmentId));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+
+    /**
+     * 그룹 일정 첨부파일 다운로드 url (그룹 멤버만)
+     */
+    @GetMapping("/group-attachments/{attachmentId}")
+    public ApiResponse<DownloadUrlResponse> groupAttachmentUrl(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PathVariable Long attachmentId) {
+        try {
+            return ApiResponse.response(ResponseCode.OK,
+                    uploadSlotService.groupAttachmentUrl(customUserDetails.getUsername(), attachmentId));
+        } catch (NoSuchElementException e) {
+            return ApiResponse.fail(ErrorCode.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            return ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package project.coca.schedule;
+
+/**
+ * presigned 업로드 용도
+ * - PERSONAL_SCHEDULE : 개인 일정 첨부파일 (targetId = 개인 일정 id)
+ * - GROUP_SCHEDULE : 그룹 일정 첨부파일 (targetId = 그룹 일정 id)
+ * - PROFILE_IMAGE : 회원 프로필 이미지 (targetId 없음)
+ */
+public enum UploadPurpose {
+    PERSONAL_SCHEDULE,
+    GROUP_SCHEDULE,
+    PROFILE_IMAGE
+}
@@ -0,0 +1,30 @@
+package project.coca.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 발급된 업로드 슬롯 (upload:slot:{slotId})
+ * 클라이언트가 presigned url 로 파일을 올린 뒤 확인 요청을 보내면 슬롯의 정보로 메타데이터를 저장함.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSlot {
+    private String slotId;
+    // 슬롯을 발급받은 회원
+    private String memberId;
+    private UploadPurpose purpose;
+    private Long targetId;
+    // 그룹 일정 첨부파일인 경우 그룹 id
+    private Long groupId;
+    private String key;
+    // 첨부파일 내용 해시 (SHA-256 hex), 프로필 이미지 / multipart 업로드 파일이면 null
+    private String contentHash;
+    private String fileName;
+    private String contentType;
+    private long size;
+    // 업로드 확인 시 HEAD 응답의 ETag 로 채워짐
+    private String eTag;
+}
@@ -0,0 +1,443 @@
+package project.coca.schedule;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+import project.coca.domain.group.GroupSchedule;
+import project.coca.domain.group.GroupScheduleAttachment;
+import project.coca.domain.personal.PersonalSchedule;
+import project.coca.domain.personal.PersonalScheduleAttachment;
+import project.coca.group.GroupManagerRepository;
+import project.coca.group.GroupMemberRepository;
+import project.coca.member.MemberService;
+import project.coca.schedule.request.UploadSlotRequest;
+import project.coca.schedule.response.DownloadUrlResponse;
+import project.coca.schedule.response.UploadSlotResponse;
+import project.coca.schedule.response.UploadedFileResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * presigned url 업로드 / 다운로드
+ * 1. 슬롯 발급 : 권한과 파일 크기를 확인하고 S3 presigned PUT 발급, 슬롯은 Redis(upload:slot:{slotId})에 보관
+ *    일정 첨부파일은 내용 해시 key(objects/{sha256})를 사용하고 해시도 서명에 포함
+ *    이미 저장된 내용이어도 PUT 을 요구함 (해시만 아는 회원이 다른 회원의 파일을 첨부하지 못하도록 내용을 가진 것을 증명)
+ * 2. 클라이언트가 S3 로 직접 업로드
+ * 3. 확인 : 슬롯을 원자적으로 가져오면서 삭제해 같은 슬롯을 동시에 확인해도 한 번만 저장되도록 하고,
+ *    아직 업로드되지 않았거나 다른 회원의 슬롯이면 다시 넣어둠.
+ *    내용 해시 key 는 참조를 먼저 잡은 뒤 HEAD 로 크기와 이 슬롯이 올린 파일인지(슬롯 id 메타데이터) 확인하고,
+ *    메타데이터만 짧은 트랜잭션으로 저장. 실패하면 잡은 참조를 해제함
+ * 파일 전송 동안 서버 스레드와 DB 커넥션을 점유하지 않음.
+ */
+@Slf4j
+@Service
+public class UploadSlotService {
+    private static final String SLOT_KEY_PREFIX = "upload:slot:";
+    private static final Set<String> PROFILE_IMAGE_TYPES =
+            Set.of(MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE);
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    /**
+     * 슬롯을 모두 가져오면서 삭제 (하나라도 없으면 삭제하지 않고 빈 목록)
+     * KEYS : 슬롯 key
+     * 반환 : {슬롯1, 남은 시간1(ms), 슬롯2, 남은 시간2, ...}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SLOTS_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "local value = redis.call('GET', key) " +
+                    "if not value then return {} end " +
+                    "result[2 * i - 1] = value " +
+                    "result[2 * i] = tostring(redis.call('PTTL', key)) " +
+                    "end " +
+                    "redis.call('DEL', unpack(KEYS)) " +
+                    "return result", List.class);
+
+    private final S3Service s3Service;
+    private final S3DeleteQueue s3DeleteQueue;
+    private final AttachmentStorage attachmentStorage;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PersonalScheduleRepository personalScheduleRepository;
+    private final GroupScheduleRepository groupScheduleRepository;
+    private final PersonalScheduleAttachmentRepository personalScheduleAttachmentRepository;
+    private final GroupScheduleAttachmentRepository groupScheduleAttachmentRepository;
+    private final GroupManagerRepository groupManagerRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final PersonalScheduleService personalScheduleService;
+    private final GroupScheduleService groupScheduleService;
+    private final MemberService memberService;
+    private final Duration uploadExpiration;
+    private final Duration downloadExpiration;
+    private final Duration slotTtl;
+    private final DataSize maxFileSize;
+    private final int maxFiles;
+
+    public UploadSlotService(S3Service s3Service,
+                             S3DeleteQueue s3DeleteQueue,
+                             AttachmentStorage attachmentStorage,
+                             StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             PersonalScheduleRepository personalScheduleRepository,
+                             GroupScheduleRepository groupScheduleRepository,
+                             PersonalScheduleAttachmentRepository personalScheduleAttachmentRepository,
+                             GroupScheduleAttachmentRepository groupScheduleAttachmentRepository,
+                             GroupManagerRepository groupManagerRepository,
+                             GroupMemberRepository groupMemberRepository,
+                             PersonalScheduleService personalScheduleService,
+                             GroupScheduleService groupScheduleService,
+                             MemberService memberService,
+                             @Value("${s3.upload.presign-expiration:10m}") Duration uploadExpiration,
+                             @Value("${s3.download.presign-expiration:5m}") Duration downloadExpiration,
+                             @Value("${s3.upload.slot-ttl:1h}") Duration slotTtl,
+                             @Value("${s3.upload.max-file-size:50MB}") DataSize maxFileSize,
+                             @Value("${s3.upload.max-files-per-request:10}") int maxFiles) {
+        this.s3Service = s3Service;
+        this.s3DeleteQueue = s3DeleteQueue;
+        this.attachmentStorage = attachmentStorage;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.personalScheduleRepository = personalScheduleRepository;
+        this.groupScheduleRepository = groupScheduleRepository;
+        this.personalScheduleAttachmentRepository = personalScheduleAttachmentRepository;
+        this.groupScheduleAttachmentRepository = groupScheduleAttachmentRepository;
+        this.groupManagerRepository = groupManagerRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.personalScheduleService = personalScheduleService;
+        this.groupScheduleService = groupScheduleService;
+        this.memberService = memberService;
+        this.uploadExpiration = uploadExpiration;
+        this.downloadExpiration = downloadExpiration;
+        this.slotTtl = slotTtl.compareTo(uploadExpiration) > 0 ? slotTtl : uploadExpiration.plusMinutes(5);
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+    }
+
+    /**
+     * 업로드 슬롯 발급
+     *
+     * @param memberId 요청 회원 id
+     * @param request  용도, 대상 id, 파일 목록
+     * @return 파일별 presigned PUT url
+     * @throws NoSuchElementException   대상이 없거나 권한이 없는 경우
+     * @throws IllegalArgumentException 파일 수 / 크기 / 형식이 허용되지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public List<UploadSlotResponse> issueSlots(String memberId, UploadSlotRequest request) {
+        List<UploadSlotRequest.FileInfo> files = request.getFiles();
+        if (request.getPurpose() == null || files == null || files.isEmpty()) {
+            throw new IllegalArgumentException("업로드할 파일이 없습니다.");
+        }
+        if (files.size() > maxFiles) {
+            throw new IllegalArgumentException("한 번에 업로드할 수 있는 파일은 " + maxFiles + "개입니다.");
+        }
+        Long groupId = checkTarget(memberId, request.getPurpose(), request.getTargetId(), files);
+
+        List<UploadSlotResponse> responses = new ArrayList<>();
+        for (UploadSlotRequest.FileInfo file : files) {
+            if (file.getSize() <= 0 || file.getSize() > maxFileSize.toBytes()) {
+                throw new IllegalArgumentException("파일 크기는 " + maxFileSize.toMegabytes() + "MB 이하여야 합니다.");
+            }
+            String slotId = UUID.randomUUID().toString();
+            String fileName = sanitizeFileName(file.getFileName());
+            String contentType = file.getContentType() != null && !file.getContentType().isBlank()
+                    ? file.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+            String contentHash = request.getPurpose() == UploadPurpose.PROFILE_IMAGE ? null : contentHashOf(file);
+            String key = contentHash == null
+                    ? s3Service.profileImageKey(memberId, slotId)
+                    : s3Service.objectKey(contentHash);
+            UploadSlot slot = new UploadSlot(slotId, memberId, request.getPurpose(), request.getTargetId(), groupId,
+                    key, contentHash, fileName, contentType, file.getSize(), null);
+            saveSlot(slot);
+
+            PresignedPutObjectRequest presigned =
+                    s3Service.presignUpload(key, contentType, file.getSize(), contentHash, slotId, uploadExpiration);
+            responses.add(UploadSlotResponse.builder()
+                    .slotId(slotId)
+                    .fileName(fileName)
+                    .uploadUrl(presigned.url().toString())
+                    .headers(clientHeaders(presigned.signedHeaders()))
+                    .expiresAt(presigned.expiration())
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 업로드 확인 후 메타데이터 저장
+     * 슬롯은 가져오면서 삭제하므로 같은 슬롯을 동시에 확인하면 한 쪽만 진행하고 나머지는 슬롯이 없어 실패함.
+     * 업로드된 파일이 없으면 슬롯을 다시 넣어 재시도할 수 있도록 하고, 크기가 다르면 슬롯을 버리고 파일을 삭제함.
+     * 내용 해시 key 는 참조를 먼저 잡아 확인한 파일이 삭제 큐에서 지워지지 않도록 하고, 실패하면 참조를 해제함.
+     *
+     * @param memberId 요청 회원 id
+     * @param slotIds  업로드를 마친 슬롯 id
+     * @return 저장된 파일
+     * @throws NoSuchElementException   슬롯 / 업로드된 파일이 없거나 권한이 없는 경우, 이 슬롯으로 올린 파일이 아닌 경우
+     * @throws IllegalArgumentException 용도가 다른 슬롯이 섞여 있거나 크기가 다른 경우
+     */
+    public List<UploadedFileResponse> confirm(String memberId, List<String> slotIds) {
+        if (slotIds == null || slotIds.isEmpty()) {
+            throw new IllegalArgumentException("확인할 업로드가 없습니다.");
+        }
+        List<ClaimedSlot> claimed = claimSlots(slotIds);
+        List<UploadSlot> slots = claimed.stream().map(ClaimedSlot::slot).toList();
+        UploadSlot first = slots.get(0);
+        // 내용 해시 key 는 참조를 먼저 잡아야 HEAD 로 확인한 파일이 삭제 큐에서 지워지지 않음 (바로 커밋)
+        List<String> retained = new ArrayList<>();
+        List<HeadObjectResponse> heads = new ArrayList<>();
+        try {
+            for (UploadSlot slot : slots) {
+                if (!slot.getMemberId().equals(memberId)) {
+                    throw new NoSuchElementException("업로드 슬롯이 조회되지 않습니다.");
+                }
+                if (slot.getPurpose() != first.getPurpose() || !Objects.equals(slot.getTargetId(), first.getTargetId())) {
+                    throw new IllegalArgumentException("같은 대상의 업로드만 함께 확인할 수 있습니다.");
+                }
+            }
+            if (first.getPurpose() == UploadPurpose.PROFILE_IMAGE && slots.size() != 1) {
+                throw new IllegalArgumentException("프로필 이미지는 1개만 업로드할 수 있습니다.");
+            }
+            for (UploadSlot slot : slots) {
+                if (slot.getContentHash() != null) {
+                    attachmentStorage.retainNow(slot.getContentHash(), slot.getSize());
+                    retained.add(s3Service.urlOf(slot.getKey()));
+                }
+            }
+            for (UploadSlot slot : slots) {
+                heads.add(s3Service.headObject(slot.getKey())
+                        .filter(head -> isUploadedBy(slot, head))
+                        .orElseThrow(() -> new NoSuchElementException("업로드된 파일이 없습니다 : " + slot.getFileName())));
+            }
+        } catch (RuntimeException e) {
+            // 다른 회원의 슬롯이거나 아직 업로드되지 않은 파일은 슬롯을 다시 넣어 업로드 후 다시 확인할 수 있도록 함
+            attachmentStorage.releaseNow(retained);
+            restoreSlots(claimed);
+            throw e;
+        }
+
+        List<UploadedFileResponse> saved;
+        try {
+            for (int i = 0; i < slots.size(); i++) {
+                UploadSlot slot = slots.get(i);
+                HeadObjectResponse head = heads.get(i);
+                if (head.contentLength() == null || head.contentLength() != slot.getSize()) {
+                    throw new IllegalArgumentException("업로드된 파일의 크기가 다릅니다 : " + slot.getFileName());
+                }
+                slot.setETag(head.eTag());
+            }
+            saved = saveMetadata(memberId, first, slots);
+        } catch (RuntimeException e) {
+            // 메타데이터가 저장되지 않은 파일은 잡은 참조를 해제 (다른 참조가 없으면 삭제 큐로)
+            attachmentStorage.releaseNow(retained);
+            if (first.getPurpose() == UploadPurpose.PROFILE_IMAGE) {
+                s3DeleteQueue.enqueue(s3Service.urlOf(first.getKey()));
+            }
+            throw e;
+        }
+        return saved;
+    }
+
+    /**
+     * 이 슬롯으로 업로드한 파일인지 확인
+     * 내용 해시 key 는 여러 슬롯이 같은 key 를 쓰므로 서명한 슬롯 id 메타데이터까지 확인함.
+     * (같은 내용을 다른 슬롯이 올렸거나 덮어쓴 경우 이 슬롯의 url 로 다시 업로드해야 함)
+     */
+    private boolean isUploadedBy(UploadSlot slot, HeadObjectResponse head) {
+        return slot.getContentHash() == null
+                || slot.getSlotId().equals(head.metadata().get(S3Service.UPLOAD_SLOT_METADATA));
+    }
+
+    /**
+     * 개인 일정 첨부파일 다운로드 url (일정 소유자만)
+     */
+    @Transactional(readOnly = true)
+    public DownloadUrlResponse personalAttachmentUrl(String memberId, Long attachmentId) {
+        PersonalScheduleAttachment attachment = personalScheduleAttachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new NoSuchElementException("첨부파일이 조회되지 않습니다."));
+        if (!attachment.getPersonalSchedule().getMember().getId().equals(memberId)) {
+            throw new NoSuchElementException("첨부파일이 조회되지 않습니다.");
+        }
+        return downloadUrl(attachment.getFilePath(), attachment.getFileName());
+    }
+
+    /**
+     * 그룹 일정 첨부파일 다운로드 url (그룹 멤버만)
+     */
+    @Transactional(readOnly = true)
+    public DownloadUrlResponse groupAttachmentUrl(String memberId, Long attachmentId) {
+        GroupScheduleAttachment attachment = groupScheduleAttachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new NoSuchElementException("첨부파일이 조회되지 않습니다."));
+        groupMemberRepository.checkMemberInGroup(attachment.getGroupSchedule().getCoGroup().getId(), memberId)
+                .orElseThrow(() -> new NoSuchElementException("회원이 그룹에 속해있지 않습니다."));
+        return downloadUrl(attachment.getFilePath(), attachment.getFileName());
+    }
+
+    private DownloadUrlResponse downloadUrl(String filePath, String fileName) {
+        PresignedGetObjectRequest presigned = s3Service.presignDownload(filePath, fileName, downloadExpiration);
+        return new DownloadUrlResponse(presigned.url().toString(), presigned.expiration());
+    }
+
+    /**
+     * 용도별 권한 확인
+     *
+     * @return 그룹 일정이면 그룹 id, 아니면 null
+     */
+    Long checkTarget(String memberId, UploadPurpose purpose, Long targetId, List<UploadSlotRequest.FileInfo> files) {
+        switch (purpose) {
+            case PERSONAL_SCHEDULE -> {
+                PersonalSchedule schedule = personalScheduleRepository.findById(nonNullTarget(targetId))
+                        .orElseThrow(() -> new NoSuchElementException("일정이 조회되지 않습니다."));
+                if (!schedule.getMember().getId().equals(memberId)) {
+                    throw new NoSuchElementException("일정이 조회되지 않습니다.");
+                }
+                return null;
+            }
+            case GROUP_SCHEDULE -> {
+                GroupSchedule schedule = groupScheduleRepository.findById(nonNullTarget(targetId))
+                        .orElseThrow(() -> new NoSuchElementException("일정이 조회되지 않습니다."));
+                Long groupId = schedule.getCoGroup().getId();
+                groupManagerRepository.checkUserIsManager(memberId, groupId)
+                        .orElseThrow(() -> new NoSuchElementException("해당 그룹의 관리자가 아닙니다."));
+                return groupId;
+            }
+            case PROFILE_IMAGE -> {
+                if (files.size() != 1) {
+                    throw new IllegalArgumentException("프로필 이미지는 1개만 업로드할 수 있습니다.");
+                }
+                if (!PROFILE_IMAGE_TYPES.contains(files.get(0).getContentType())) {
+                    throw new IllegalArgumentException("png, jpeg 파일만 업로드 가능합니다");
+                }
+                return null;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 업로드입니다.");
+        }
+    }
+
+    private Long nonNullTarget(Long targetId) {
+        if (targetId == null) {
+            throw new IllegalArgumentException("업로드 대상 일정이 없습니다.");
+        }
+        return targetId;
+    }
+
+    /**
+     * 업로드를 마친 파일의 메타데이터 저장 (multipart 업로드 완료에서도 사용)
+     */
+    List<UploadedFileResponse> saveMetadata(String memberId, UploadSlot first, List<UploadSlot> slots) {
+        return switch (first.getPurpose()) {
+            case PERSONAL_SCHEDULE -> personalScheduleService.addUploadedAttachments(memberId, first.getTargetId(), slots)
+                    .stream()
+                    .map(attachment -> UploadedFileResponse.builder()
+                            .id(attachment.getId())
+                            .fileName(attachment.getFileName())
+                            .filePath(attachment.getFilePath())
+                            .build())
+                    .toList();
+            case GROUP_SCHEDULE -> groupScheduleService.addUploadedAttachments(memberId, first.getTargetId(), slots)
+                    .stream()
+                    .map(attachment -> UploadedFileResponse.builder()
+                            .id(attachment.getId())
+                            .fileName(attachment.getFileName())
+                            .filePath(attachment.getFilePath())
+                            .build())
+                    .toList();
+            case PROFILE_IMAGE -> {
+                String url = s3Service.urlOf(first.getKey());
+                memberService.updateProfileImage(memberId, url);
+                yield List.of(UploadedFileResponse.builder()
+                        .fileName(first.getFileName())
+                        .filePath(url)
+                        .build());
+            }
+        };
+    }
+
+    private String contentHashOf(UploadSlotRequest.FileInfo file) {
+        String sha256 = file.getSha256() == null ? "" : file.getSha256().toLowerCase(Locale.ROOT);
+        if (!SHA256_HEX.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("파일의 SHA-256 이 필요합니다.");
+        }
+        return sha256;
+    }
+
+    // 경로 구분자를 제거해 key 의 다른 위치로 올라가지 않도록 함
+    String sanitizeFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("파일 이름이 없습니다.");
+        }
+        return fileName.replaceAll("[\\\\/\\p{Cntrl}]", "_").trim();
+    }
+
+    // host 는 클라이언트가 url 로부터 보내므로 제외
+    Map<String, String> clientHeaders(Map<String, List<String>> signedHeaders) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        signedHeaders.forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        return headers;
+    }
+
+    private void saveSlot(UploadSlot slot) {
+        try {
+            redisTemplate.opsForValue().set(SLOT_KEY_PREFIX + slot.getSlotId(), objectMapper.writeValueAsString(slot), slotTtl);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 슬롯을 가져오면서 삭제 (모든 슬롯이 있을 때만)
+     *
+     * @throws NoSuchElementException 없거나 이미 확인된 슬롯이 있는 경우
+     */
+    private List<ClaimedSlot> claimSlots(List<String> slotIds) {
+        List<String> keys = slotIds.stream().distinct().map(id -> SLOT_KEY_PREFIX + id).toList();
+        List<?> result = redisTemplate.execute(CLAIM_SLOTS_SCRIPT, keys);
+        if (result == null || result.size() != keys.size() * 2) {
+            throw new NoSuchElementException("업로드 슬롯이 조회되지 않습니다.");
+        }
+        List<ClaimedSlot> claimed = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String value = String.valueOf(result.get(2 * i));
+            long ttlMillis = Long.parseLong(String.valueOf(result.get(2 * i + 1)));
+            try {
+                claimed.add(new ClaimedSlot(objectMapper.readValue(value, UploadSlot.class), value, ttlMillis));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * 가져온 슬롯을 남은 유효 시간으로 다시 저장
+     */
+    private void restoreSlots(List<ClaimedSlot> claimed) {
+        try {
+            for (ClaimedSlot slot : claimed) {
+                Duration ttl = slot.ttlMillis() > 0 ? Duration.ofMillis(slot.ttlMillis()) : slotTtl;
+                redisTemplate.opsForValue().set(SLOT_KEY_PREFIX + slot.slot().getSlotId(), slot.value(), ttl);
+            }
+        } catch (Exception e) {
+            log.warn("업로드 슬롯 복구 실패 : {}", e.getMessage());
+        }
+    }
+
+    private record ClaimedSlot(UploadSlot slot, String value, long ttlMillis) {
+    }
+}
@@ -0,0 +1,28 @@
+package project.coca.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+
+/**
+ * 첨부파일 업로드 결과 (파일의 참조 1개를 잡은 상태)
+ * 파일 해시는 업로드 전에 한 번 읽으며 함께 계산됨.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UploadedFile {
+    private final String url;
+    // 첨부파일 비교용 해시 (MD5 hex + 파일 파라미터 이름)
+    private final String fileMd5;
+    // 저장 key 로 쓰는 내용 해시 (SHA-256 hex)
+    private final String contentHash;
+    private final long size;
+
+    /**
+     * 첨부파일 해시 문자열 (기존 저장값과 같은 형식)
+     */
+    public static String fileMd5Of(byte[] digest, String name) {
+        return new BigInteger(1, digest).toString(16) + name;
+    }
+}
@@ -0,0 +1,131 @@
+package project.coca.schedule;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import project.coca.common.transaction.AfterCommit;
+import project.coca.friend.response.FriendScheduleResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * 회원별 주간 일정 캐시 (친구 주간 일정 조회용, 비공개 일정은 가려진 상태로 저장)
+ * key : schedule:week:{memberId}:{주 시작일(월요일)}
+ * 개인 일정이 등록 / 수정 / 삭제되면 해당 일정이 걸친 주의 키를 커밋 이후 삭제함.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeekScheduleCache {
+    private static final String KEY_PREFIX = "schedule:week:";
+    // 아주 긴 일정은 이 주 수까지만 삭제하고 나머지는 TTL 로 만료
+    private static final int MAX_EVICT_WEEKS = 60;
+    private static final TypeReference<List<FriendScheduleResponse>> SCHEDULES_TYPE = new TypeReference<>() {
+    };
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${schedule.week-cache.ttl:60s}")
+    private Duration ttl;
+
+    /**
+     * 날짜가 속한 주의 월요일
+     */
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * 캐시된 주간 일정 일괄 조회 (MGET)
+     * Redis 오류 시 모두 없는 것으로 처리
+     *
+     * @return 캐시에 있는 회원의 일정만 담긴 map
+     */
+    public Map<String, List<FriendScheduleResponse>> getAll(List<String> memberIds, LocalDate weekStart) {
+        Map<String, List<FriendScheduleResponse>> result = new HashMap<>();
+        if (memberIds.isEmpty()) {
+            return result;
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    memberIds.stream().map(memberId -> keyOf(memberId, weekStart)).toList());
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < memberIds.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    result.put(memberIds.get(i), objectMapper.readValue(value, SCHEDULES_TYPE));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("주간 일정 캐시 조회 실패 : {}", e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 주간 일정 일괄 저장 (pipeline)
+     */
+    public void putAll(Map<String, List<FriendScheduleResponse>> schedules, LocalDate weekStart) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+        try {
+            Map<byte[], byte[]> entries = new HashMap<>();
+            for (Map.Entry<String, List<FriendScheduleResponse>> entry : schedules.entrySet()) {
+                entries.put(keyOf(entry.getKey(), weekStart).getBytes(StandardCharsets.UTF_8),
+                        objectMapper.writeValueAsBytes(entry.getValue()));
+            }
+            Expiration expiration = Expiration.from(ttl);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands()
+                        .set(key, value, expiration, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("주간 일정 캐시 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일정 기간이 걸친 주의 캐시를 커밋 이후 삭제
+     */
+    public void evict(String memberId, LocalDateTime start, LocalDateTime end) {
+        if (memberId == null || start == null || end == null) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        LocalDate week = weekStartOf(start.toLocalDate());
+        LocalDate lastWeek = weekStartOf(end.toLocalDate());
+        while (!week.isAfter(lastWeek) && keys.size() < MAX_EVICT_WEEKS) {
+            keys.add(keyOf(memberId, week));
+            week = week.plusWeeks(1);
+        }
+        AfterCommit.run(() -> {
+            try {
+                redisTemplate.delete(keys);
+            } catch (Exception e) {
+                log.warn("주간 일정 캐시 삭제 실패 : {}, {}", memberId, e.getMessage());
+            }
+        });
+    }
+
+    private String keyOf(String memberId, LocalDate weekStart) {
+        return KEY_PREFIX + memberId + ":" + weekStart;
+    }
+}
@@ -0,0 +1,21 @@
+package project.coca.schedule.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import project.coca.schedule.UploadPurpose;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartInitRequest {
+    // PERSONAL_SCHEDULE, GROUP_SCHEDULE
+    private UploadPurpose purpose;
+    // 개인 / 그룹 일정 id
+    private Long targetId;
+    private String fileName;
+    private String contentType;
+    private long size;
+}
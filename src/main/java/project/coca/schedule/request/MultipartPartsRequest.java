@@ -0,0 +1,28 @@
+package project.coca.schedule.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultipartPartsRequest {
+    // 업로드할 (또는 다시 올릴) part 목록
+    private List<PartInfo> parts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PartInfo {
+        // 1부터 시작하는 part 번호
+        private int partNumber;
+        // part 내용의 SHA-256 (hex)
+        private String sha256;
+    }
+}
@@ -0,0 +1,17 @@
+package project.coca.schedule.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadConfirmRequest {
+    // 업로드를 마친 슬롯 id (같은 용도 / 대상의 슬롯만)
+    private List<String> slotIds;
+}
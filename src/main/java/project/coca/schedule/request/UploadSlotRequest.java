@@ -0,0 +1,32 @@
+package project.coca.schedule.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import project.coca.schedule.UploadPurpose;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSlotRequest {
+    private UploadPurpose purpose;
+    // 개인 / 그룹 일정 id, 프로필 이미지면 null
+    private Long targetId;
+    private List<FileInfo> files;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileInfo {
+        private String fileName;
+        private String contentType;
+        private long size;
+        // 파일 내용의 SHA-256 (hex), 일정 첨부파일이면 필수
+        private String sha256;
+    }
+}
@@ -0,0 +1,13 @@
+package project.coca.schedule.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class DownloadUrlResponse {
+    private String url;
+    private Instant expiresAt;
+}
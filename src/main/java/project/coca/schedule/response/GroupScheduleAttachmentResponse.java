@@ -9,11 +9,13 @@ import project.coca.domain.group.GroupScheduleAttachment;
 @Getter
 @Setter
 public class GroupScheduleAttachmentResponse {
+    private Long id;
     private String fileName;
     private String filePath;
 
     public static GroupScheduleAttachmentResponse of(GroupScheduleAttachment attachment) {
         return GroupScheduleAttachmentResponse.builder()
+                .id(attachment.getId())
                 .fileName(attachment.getFileName())
                 .filePath(attachment.getFilePath())
                 .build();
@@ -0,0 +1,18 @@
+package project.coca.schedule.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+public class MultipartPartResponse {
+    private int partNumber;
+    // PUT 으로 part 를 올릴 url
+    private String uploadUrl;
+    // 업로드 요청에 그대로 보내야 하는 헤더 (Content-Length, x-amz-checksum-sha256 등)
+    private Map<String, String> headers;
+    private Instant expiresAt;
+}
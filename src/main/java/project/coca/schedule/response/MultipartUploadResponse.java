@@ -0,0 +1,22 @@
+package project.coca.schedule.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+public class MultipartUploadResponse {
+    private String uploadId;
+    private String fileName;
+    private long size;
+    // 마지막 part 를 제외한 part 크기 (byte)
+    private long partSize;
+    private int partCount;
+    // S3 에 올라간 part 번호, 이어 올릴 때는 여기에 없는 part 만 올리면 됨
+    private List<Integer> uploadedParts;
+    // 이 시각까지 완료하지 않으면 업로드가 취소됨
+    private Instant expiresAt;
+}
@@ -0,0 +1,19 @@
+package project.coca.schedule.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+public class UploadSlotResponse {
+    private String slotId;
+    private String fileName;
+    // PUT 으로 파일을 올릴 url
+    private String uploadUrl;
+    // 업로드 요청에 그대로 보내야 하는 헤더 (Content-Type, Content-Length 등)
+    private Map<String, String> headers;
+    private Instant expiresAt;
+}
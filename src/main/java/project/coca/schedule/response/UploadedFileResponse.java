@@ -0,0 +1,13 @@
+package project.coca.schedule.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UploadedFileResponse {
+    // 첨부파일 id, 프로필 이미지면 null
+    private Long id;
+    private String fileName;
+    private String filePath;
+}
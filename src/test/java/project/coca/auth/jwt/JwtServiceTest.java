@@ -0,0 +1,105 @@
+package project.coca.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import project.coca.domain.personal.Member;
+import project.coca.member.MemberRepository;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+    @InjectMocks
+    JwtService jwtService;
+    @Mock
+    JwtTokenProvider jwtTokenProvider;
+    @Mock
+    JwtRepository jwtRepository;
+    @Mock
+    MemberRepository memberRepository;
+    @Mock
+    JwtProperties properties;
+    @Mock
+    SessionCache sessionCache;
+    @Mock
+    RevokedTokens revokedTokens;
+    @Mock
+    HttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        Claims refreshClaims = Jwts.claims().setSubject("tester");
+        refreshClaims.put(JwtTokenProvider.SESSION_ID_CLAIM, "sid-1");
+        when(jwtTokenProvider.getValidClaims("refresh", request)).thenReturn(refreshClaims);
+        when(jwtRepository.getUsername("refresh")).thenReturn("tester");
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn("tester");
+        when(member.getRole()).thenReturn("ROLE_USER");
+        when(memberRepository.findById("tester")).thenReturn(Optional.of(member));
+        when(jwtTokenProvider.createAccessToken(eq("tester"), anyList(), eq("sid-1"))).thenReturn("new-access");
+        when(jwtTokenProvider.createRefreshToken("tester", "sid-1")).thenReturn("new-refresh");
+    }
+
+    @Test
+    public void 재발급_같은세션의_access_token은_삭제및폐기() {
+        //given
+        Claims accessClaims = Jwts.claims().setSubject("tester").setId("jti-1");
+        accessClaims.put(JwtTokenProvider.SESSION_ID_CLAIM, "sid-1");
+        when(jwtTokenProvider.getClaimsIgnoringExpiration("access")).thenReturn(accessClaims);
+
+        //when
+        jwtService.reissueToken("access", "refresh", request);
+
+        //then
+        verify(jwtRepository).saveTokens(any(), any(), anyLong(), anyLong(), eq("access"), eq("refresh"));
+        verify(revokedTokens).revoke("access");
+        verify(sessionCache).invalidate("access");
+    }
+
+    @Test
+    public void 재발급_검증되지않은_access_token은_key로_쓰지않음() {
+        //given (서명이 없는 임의의 Redis key)
+        String foreignKey = "login:attempt:account:victim";
+
+        //when
+        jwtService.reissueToken(foreignKey, "refresh", request);
+
+        //then
+        verify(jwtRepository).saveTokens(any(), any(), anyLong(), anyLong(), isNull(), eq("refresh"));
+        verify(revokedTokens, never()).revoke(anyString());
+        verify(sessionCache, never()).invalidate(anyString());
+    }
+
+    @Test
+    public void 재발급_다른세션의_access_token은_key로_쓰지않음() {
+        //given
+        Claims accessClaims = Jwts.claims().setSubject("tester").setId("jti-2");
+        accessClaims.put(JwtTokenProvider.SESSION_ID_CLAIM, "sid-2");
+        when(jwtTokenProvider.getClaimsIgnoringExpiration("other-session")).thenReturn(accessClaims);
+
+        //when
+        jwtService.reissueToken("other-session", "refresh", request);
+
+        //then
+        verify(jwtRepository).saveTokens(any(), any(), anyLong(), anyLong(), isNull(), eq("refresh"));
+        verify(revokedTokens, never()).revoke(anyString());
+    }
+}
@@ -0,0 +1,47 @@
+package project.coca.auth.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionRedisSerializerTest {
+    private final SessionRedisSerializer serializer = new SessionRedisSerializer();
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    public void 세션_직렬화_복원() {
+        UserSession session = new UserSession("회원아이디", List.of("ROLE_USER", "ROLE_ADMIN"));
+
+        byte[] bytes = serializer.serialize(session);
+
+        assertEquals(SessionRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(session, serializer.deserialize(bytes));
+        assertTrue(bytes.length < jsonSerializer.serialize(session).length);
+    }
+
+    @Test
+    public void 문자열_직렬화_복원() {
+        assertEquals("testID", serializer.deserialize(serializer.serialize("testID")));
+        assertEquals("", serializer.deserialize(serializer.serialize("")));
+    }
+
+    @Test
+    public void 기존_JSON_항목_읽기() {
+        UserSession session = new UserSession("testID", List.of("ROLE_USER"));
+
+        assertEquals(session, serializer.deserialize(jsonSerializer.serialize(session)));
+        assertEquals("testID", serializer.deserialize(jsonSerializer.serialize("testID")));
+    }
+
+    @Test
+    public void 알수없는_버전_예외() {
+        byte[] bytes = serializer.serialize("testID");
+        bytes[1] = 99;
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+}
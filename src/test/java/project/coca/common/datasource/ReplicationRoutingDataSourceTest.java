@@ -0,0 +1,229 @@
+package project.coca.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicationRoutingDataSourceTest {
+    private final AtomicReference<String> currentMember = new AtomicReference<>();
+    private final MutableClock clock = new MutableClock();
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTx;
+    private TransactionTemplate readWriteTx;
+
+    @BeforeEach
+    void setUp() {
+        route(new ReplicationRoutingDataSource(Duration.ofSeconds(5), currentMember::get, clock));
+    }
+
+    private void route(ReplicationRoutingDataSource routingDataSource) {
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                ReplicationRoutingDataSource.PRIMARY, localDataSource("primary"),
+                ReplicationRoutingDataSource.REPLICA, localDataSource("replica")));
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        readWriteTx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void 읽기전용_트랜잭션은_replica() {
+        //given
+        currentMember.set("tester");
+
+        //when
+        String node = readOnlyTx.execute(status -> currentNode());
+
+        //then
+        assertEquals("replica", node);
+    }
+
+    @Test
+    public void onPrimary_안의_읽기전용_트랜잭션은_primary_고정표시없음() {
+        //given
+        currentMember.set("tester");
+
+        //when
+        String primaryRead = ReplicationRoutingDataSource.onPrimary(() -> readOnlyTx.execute(status -> currentNode()));
+        String nextRead = readOnlyTx.execute(status -> currentNode());
+
+        //then
+        assertEquals("primary", primaryRead);
+        assertEquals("replica", nextRead);
+    }
+
+    @Test
+    public void 쓰기_트랜잭션은_primary() {
+        //when
+        String node = readWriteTx.execute(status -> currentNode());
+
+        //then
+        assertEquals("primary", node);
+    }
+
+    @Test
+    public void 본인_쓰기_이후_조회는_primary_고정() {
+        //given
+        currentMember.set("tester");
+        readWriteTx.executeWithoutResult(status -> currentNode());
+
+        //when
+        String ownRead = readOnlyTx.execute(status -> currentNode());
+        currentMember.set("other");
+        String otherRead = readOnlyTx.execute(status -> currentNode());
+
+        //then
+        assertEquals("primary", ownRead);
+        assertEquals("replica", otherRead);
+    }
+
+    @Test
+    public void 고정_시간이_지나면_다시_replica() {
+        //given
+        currentMember.set("tester");
+        readWriteTx.executeWithoutResult(status -> currentNode());
+
+        //when
+        clock.advance(Duration.ofSeconds(6));
+        String node = readOnlyTx.execute(status -> currentNode());
+
+        //then
+        assertEquals("replica", node);
+    }
+
+    @Test
+    public void 롤백된_쓰기는_고정하지_않음() {
+        //given
+        currentMember.set("tester");
+        readWriteTx.executeWithoutResult(status -> {
+            currentNode();
+            status.setRollbackOnly();
+        });
+
+        //when
+        String node = readOnlyTx.execute(status -> currentNode());
+
+        //then
+        assertEquals("replica", node);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void 쓰기_커밋시_공유_고정표시_저장() {
+        //given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        route(new ReplicationRoutingDataSource(Duration.ofSeconds(5), Duration.ofMillis(500), redisTemplate,
+                currentMember::get, clock));
+        currentMember.set("tester");
+
+        //when
+        readWriteTx.executeWithoutResult(status -> currentNode());
+
+        //then
+        verify(valueOperations).set("db:sticky:tester", "1", Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void 다른_인스턴스의_쓰기_이후_조회도_primary() {
+        //given (다른 인스턴스가 커밋하며 남긴 고정 표시)
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.getExpire("db:sticky:tester", TimeUnit.MILLISECONDS)).thenReturn(3000L);
+        when(redisTemplate.getExpire("db:sticky:other", TimeUnit.MILLISECONDS)).thenReturn(-2L);
+        route(new ReplicationRoutingDataSource(Duration.ofSeconds(5), Duration.ofMillis(500), redisTemplate,
+                currentMember::get, clock));
+
+        //when
+        currentMember.set("tester");
+        String ownRead = readOnlyTx.execute(status -> currentNode());
+        currentMember.set("other");
+        String otherRead = readOnlyTx.execute(status -> currentNode());
+
+        //then
+        assertEquals("primary", ownRead);
+        assertEquals("replica", otherRead);
+    }
+
+    @Test
+    public void 고정이_아닌_확인결과는_잠시_Redis를_다시_조회하지_않음() {
+        //given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.getExpire("db:sticky:tester", TimeUnit.MILLISECONDS)).thenReturn(-2L);
+        route(new ReplicationRoutingDataSource(Duration.ofSeconds(5), Duration.ofMillis(500), redisTemplate,
+                currentMember::get, clock));
+        currentMember.set("tester");
+
+        //when
+        readOnlyTx.execute(status -> currentNode());
+        readOnlyTx.execute(status -> currentNode());
+        clock.advance(Duration.ofSeconds(1));
+        readOnlyTx.execute(status -> currentNode());
+
+        //then
+        verify(redisTemplate, times(2)).getExpire("db:sticky:tester", TimeUnit.MILLISECONDS);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT NAME FROM NODE", String.class);
+    }
+
+    private static DataSource localDataSource(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS NODE (NAME VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM NODE");
+        jdbcTemplate.update("INSERT INTO NODE (NAME) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -9,6 +9,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import project.coca.auth.jwt.JwtProperties;
+import project.coca.auth.jwt.JwtRepository;
+import project.coca.auth.jwt.JwtService;
 import project.coca.auth.jwt.JwtTokenProvider;
 import project.coca.auth.jwt.TokenDto;
 import project.coca.domain.personal.Member;
@@ -19,11 +22,17 @@ import project.coca.member.response.InterestForTag;
 import project.coca.schedule.S3Service;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +48,13 @@ class MemberServiceTest {
     @Mock
     JwtTokenProvider jwtTokenProvider;
     @Mock
-    TagRepository tagRepository;
+    JwtRepository jwtRepository;
+    @Mock
+    JwtProperties jwtProperties;
+    @Mock
+    JwtService jwtService;
+    @Mock
+    TagCatalog tagCatalog;
     @Mock
     S3Service s3Service;
     @Value("${spring.cloud.aws.s3.url}")
@@ -65,9 +80,10 @@ class MemberServiceTest {
         );
         when(memberRepository.existsById(any())).thenReturn(false);
         when(passwordEncoder.encode(any())).thenReturn("encoded-password");
-        when(tagRepository.findById(1L)).thenReturn(Optional.of(new Tag(1L, "IT", "스프링")));
-        when(tagRepository.findById(2L)).thenReturn(Optional.of(new Tag(2L, "IT", "자바")));
-        when(tagRepository.findById(3L)).thenReturn(Optional.of(new Tag(3L, "IT", "리액트")));
+        when(tagCatalog.getReferences(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new Tag(1L, "IT", "스프링"),
+                new Tag(2L, "IT", "자바"),
+                new Tag(3L, "IT", "리액트")));
         when(memberRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         //when
@@ -121,14 +137,16 @@ class MemberServiceTest {
         when(fakeAuthentication.getName()).thenReturn("testID");
 
         when(authenticationManager.authenticate(any())).thenReturn(fakeAuthentication);
-        when(jwtTokenProvider.createAccessToken(fakeAuthentication.getName())).thenReturn("access-token");
-        when(jwtTokenProvider.createRefreshToken(fakeAuthentication.getName())).thenReturn("refresh-token");
+        when(jwtTokenProvider.createAccessToken(eq(fakeAuthentication.getName()), anyList(), anyString())).thenReturn("access-token");
+        when(jwtTokenProvider.createRefreshToken(eq(fakeAuthentication.getName()), anyString())).thenReturn("refresh-token");
 
         //when
-        TokenDto tokenDto = memberService.login(request);
+        TokenDto tokenDto = memberService.login(request, "test-agent");
 
         //then
         assertEquals("access-token", tokenDto.getAccessToken());
         assertEquals("refresh-token", tokenDto.getRefreshToken());
+        verify(jwtService).newSessionInfo(anyString(), eq(tokenDto), eq("test-agent"));
+        verify(jwtRepository).saveTokens(any(), any(), anyLong(), anyLong());
     }
 }
\ No newline at end of file
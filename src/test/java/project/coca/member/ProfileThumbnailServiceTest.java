@@ -0,0 +1,120 @@
+package project.coca.member;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.util.unit.DataSize;
+import project.coca.schedule.S3DeleteQueue;
+import project.coca.schedule.S3Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileThumbnailServiceTest {
+    private static final String URL = "https://bucket/profile-images/tester";
+    private static final String KEY = "profile-images/tester";
+
+    @Mock
+    S3Service s3Service;
+    @Mock
+    S3DeleteQueue s3DeleteQueue;
+    @Mock
+    MemberService memberService;
+    @Mock
+    MemberRepository memberRepository;
+    @Mock
+    TaskExecutor thumbnailExecutor;
+
+    ProfileThumbnailService profileThumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        profileThumbnailService = new ProfileThumbnailService(s3Service, s3DeleteQueue, memberService, memberRepository,
+                thumbnailExecutor, DataSize.ofMegabytes(20), 0.85f, 50);
+    }
+
+    private byte[] jpeg(int width, int height) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpeg", bytes);
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void 썸네일_크기별_저장후_반영() throws Exception {
+        //given
+        when(s3Service.isUploadedProfileImage(URL)).thenReturn(true);
+        when(s3Service.keyOf(URL)).thenReturn(KEY);
+        when(s3Service.readObject(eq(KEY), anyLong())).thenReturn(jpeg(600, 400));
+        when(memberService.markProfileThumbnails("tester", URL, true)).thenReturn(true);
+
+        //when
+        profileThumbnailService.generate("tester", URL);
+
+        //then
+        verify(s3Service).putObject(eq(KEY + "_256"), any(), eq("image/jpeg"));
+        verify(s3Service).putObject(eq(KEY + "_128"), any(), eq("image/jpeg"));
+        verify(s3Service).putObject(eq(KEY + "_64"), any(), eq("image/jpeg"));
+        verify(s3DeleteQueue, never()).enqueueNow(any());
+    }
+
+    @Test
+    public void 썸네일_생성중_이미지변경시_썸네일삭제() throws Exception {
+        //given
+        when(s3Service.isUploadedProfileImage(URL)).thenReturn(true);
+        when(s3Service.keyOf(URL)).thenReturn(KEY);
+        when(s3Service.readObject(eq(KEY), anyLong())).thenReturn(jpeg(100, 100));
+        when(memberService.markProfileThumbnails("tester", URL, true)).thenReturn(false);
+
+        //when
+        profileThumbnailService.generate("tester", URL);
+
+        //then
+        verify(s3DeleteQueue).enqueueNow(List.of(URL + "_256", URL + "_128", URL + "_64"));
+    }
+
+    @Test
+    public void 썸네일_이미지가아니면_생성불가로반영() throws Exception {
+        //given
+        when(s3Service.isUploadedProfileImage(URL)).thenReturn(true);
+        when(s3Service.keyOf(URL)).thenReturn(KEY);
+        when(s3Service.readObject(eq(KEY), anyLong())).thenReturn("not an image".getBytes());
+
+        //when
+        profileThumbnailService.generate("tester", URL);
+
+        //then
+        verify(s3Service, never()).putObject(anyString(), any(), anyString());
+        verify(memberService).markProfileThumbnails("tester", URL, false);
+    }
+
+    @Test
+    public void 썸네일_가운데_정사각형으로_축소() {
+        //given
+        BufferedImage source = new BufferedImage(600, 400, BufferedImage.TYPE_INT_RGB);
+
+        //when
+        BufferedImage thumbnail = ProfileThumbnailService.resize(source, 128);
+        BufferedImage small = ProfileThumbnailService.resize(new BufferedImage(40, 50, BufferedImage.TYPE_INT_RGB), 64);
+
+        //then
+        assertEquals(128, thumbnail.getWidth());
+        assertEquals(128, thumbnail.getHeight());
+        assertEquals(40, small.getWidth()); // 원본보다 크게 늘리지 않음
+        assertEquals(40, small.getHeight());
+    }
+}
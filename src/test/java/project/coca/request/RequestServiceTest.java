@@ -0,0 +1,67 @@
+package project.coca.request;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import project.coca.domain.personal.Member;
+import project.coca.domain.request.FriendRequest;
+import project.coca.domain.request.RequestType;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequestServiceTest {
+    @InjectMocks
+    RequestService requestService;
+    @Mock
+    FriendRequestRepository friendRequestRepository;
+    @Mock
+    PendingRequestCounter pendingRequestCounter;
+
+    private FriendRequest friendRequest() {
+        Member receiver = mock(Member.class);
+        when(receiver.getId()).thenReturn("receiver");
+        FriendRequest request = mock(FriendRequest.class);
+        when(request.getReceiver()).thenReturn(receiver);
+        return request;
+    }
+
+    @Test
+    public void 요청삭제_대기중인_요청을_삭제하면_카운터감소() {
+        //given
+        FriendRequest request = friendRequest();
+        when(friendRequestRepository.findById(1L)).thenReturn(Optional.of(request));
+        when(friendRequestRepository.deleteIfPending(1L)).thenReturn(1);
+
+        //when
+        requestService.deleteFriendRequest(1L);
+
+        //then
+        verify(pendingRequestCounter).decrement("receiver", RequestType.FRIEND);
+        verify(friendRequestRepository, never()).deleteRequest(anyLong());
+    }
+
+    @Test
+    public void 요청삭제_동시에_처리된_요청은_카운터감소없이_삭제() {
+        //given (조회 이후 다른 요청이 수락해 대기중이 아님)
+        when(friendRequestRepository.findById(1L)).thenReturn(Optional.of(mock(FriendRequest.class)));
+        when(friendRequestRepository.deleteIfPending(1L)).thenReturn(0);
+
+        //when
+        requestService.deleteFriendRequest(1L);
+
+        //then
+        verify(friendRequestRepository).deleteRequest(1L);
+        verify(pendingRequestCounter, never()).decrement(anyString(), any());
+    }
+}
@@ -0,0 +1,127 @@
+package project.coca.schedule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.util.unit.DataSize;
+import project.coca.schedule.request.MultipartPartsRequest;
+import project.coca.schedule.response.UploadedFileResponse;
+import software.amazon.awssdk.services.s3.model.Part;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MultipartUploadServiceTest {
+    private static final long MB = DataSize.ofMegabytes(1).toBytes();
+
+    @Mock
+    S3Service s3Service;
+    @Mock
+    S3DeleteQueue s3DeleteQueue;
+    @Mock
+    StringRedisTemplate redisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+    @Mock
+    UploadSlotService uploadSlotService;
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    MultipartUploadService multipartUploadService;
+
+    @BeforeEach
+    void setUp() {
+        multipartUploadService = new MultipartUploadService(s3Service, s3DeleteQueue, redisTemplate, objectMapper,
+                uploadSlotService, Duration.ofMinutes(10), Duration.ofHours(24), DataSize.ofGigabytes(2),
+                DataSize.ofMegabytes(8), 100);
+    }
+
+    // 20MB 파일 -> 8MB, 8MB, 4MB
+    private void givenSession() throws Exception {
+        MultipartUploadSession session = new MultipartUploadSession("upload-1", "tester", UploadPurpose.PERSONAL_SCHEDULE,
+                1L, null, "attachments/upload-1", "s3-upload-1", "video.mp4", "video/mp4",
+                20 * MB, 8 * MB, 3, Instant.now().plus(Duration.ofHours(1)));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("upload:multipart:upload-1")).thenReturn(objectMapper.writeValueAsString(session));
+    }
+
+    private Part part(int partNumber, long size) {
+        return Part.builder().partNumber(partNumber).size(size).eTag("etag-" + partNumber).build();
+    }
+
+    @Test
+    public void 완료_빠진part가_있으면_실패() throws Exception {
+        //given
+        givenSession();
+        when(valueOperations.setIfAbsent(eq("upload:multipart:upload-1:completing"), anyString(), any()))
+                .thenReturn(true);
+        // 2번 part 는 크기가 달라 올라가지 않은 것으로 봄
+        when(s3Service.listParts("attachments/upload-1", "s3-upload-1"))
+                .thenReturn(List.of(part(1, 8 * MB), part(2, 5 * MB), part(3, 4 * MB)));
+
+        //when
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> multipartUploadService.complete("tester", "upload-1"));
+
+        //then
+        assertTrue(e.getMessage().contains("[2]"));
+        verify(s3Service, never()).completeMultipartUpload(anyString(), anyString(), anyList());
+        verify(redisTemplate).delete("upload:multipart:upload-1:completing");
+    }
+
+    @Test
+    public void 완료_모든part가_올라가면_메타데이터저장() throws Exception {
+        //given
+        givenSession();
+        when(valueOperations.setIfAbsent(eq("upload:multipart:upload-1:completing"), anyString(), any()))
+                .thenReturn(true);
+        List<Part> parts = List.of(part(1, 8 * MB), part(2, 8 * MB), part(3, 4 * MB));
+        when(s3Service.listParts("attachments/upload-1", "s3-upload-1")).thenReturn(parts);
+        when(s3Service.completeMultipartUpload("attachments/upload-1", "s3-upload-1", parts)).thenReturn("\"etag-3\"");
+        when(uploadSlotService.saveMetadata(eq("tester"), any(), anyList()))
+                .thenReturn(List.of(UploadedFileResponse.builder().id(10L).fileName("video.mp4").build()));
+
+        //when
+        UploadedFileResponse saved = multipartUploadService.complete("tester", "upload-1");
+
+        //then
+        assertEquals(10L, saved.getId());
+        verify(uploadSlotService).saveMetadata(eq("tester"),
+                argThat(slot -> slot.getKey().equals("attachments/upload-1") && slot.getContentHash() == null
+                        && slot.getSize() == 20 * MB),
+                anyList());
+        verify(redisTemplate).delete("upload:multipart:upload-1");
+    }
+
+    @Test
+    public void part_url_범위밖_part번호는_실패() throws Exception {
+        //given
+        givenSession();
+        MultipartPartsRequest request = new MultipartPartsRequest(
+                List.of(new MultipartPartsRequest.PartInfo(4, "a".repeat(64))));
+
+        //when, then
+        assertThrows(IllegalArgumentException.class,
+                () -> multipartUploadService.presignParts("tester", "upload-1", request));
+        verify(s3Service, never()).presignUploadPart(anyString(), anyString(), any(Integer.class), any(Long.class),
+                anyString(), any());
+    }
+}
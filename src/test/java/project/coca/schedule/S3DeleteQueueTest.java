@@ -0,0 +1,123 @@
+package project.coca.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import project.coca.domain.file.S3DeleteTask;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeleteQueueTest {
+    @Mock
+    S3Service s3Service;
+    @Mock
+    StoredObjectRepository storedObjectRepository;
+    @Mock
+    S3DeleteTaskRepository s3DeleteTaskRepository;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    S3DeleteQueue s3DeleteQueue;
+
+    @BeforeEach
+    void setUp() {
+        s3DeleteQueue = new S3DeleteQueue(s3Service, storedObjectRepository, s3DeleteTaskRepository, transactionManager,
+                1000, Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofHours(1));
+    }
+
+    private S3DeleteTask task(long id, String key) {
+        S3DeleteTask task = new S3DeleteTask(key, LocalDateTime.now());
+        ReflectionTestUtils.setField(task, "id", id);
+        task.claim(LocalDateTime.now().plusMinutes(5));
+        return task;
+    }
+
+    @Test
+    public void 삭제_일괄요청_실패분만_재시도() {
+        //given
+        when(s3DeleteTaskRepository.claim(anyInt(), any(), any()))
+                .thenReturn(List.of(task(1L, "personals/a.png"), task(2L, "personals/b.png")));
+        when(s3Service.hashOfKey(anyString())).thenReturn(Optional.empty());
+        when(s3Service.deleteObjects(List.of("personals/a.png", "personals/b.png")))
+                .thenReturn(Map.of("personals/b.png", "InternalError"));
+
+        //when
+        s3DeleteQueue.drain();
+
+        //then
+        verify(s3DeleteTaskRepository).complete(List.of(1L));
+        verify(s3DeleteTaskRepository).retryAt(eq(2L), any(), eq("InternalError"));
+    }
+
+    @Test
+    public void 삭제_다시참조된파일은_삭제하지않음() {
+        //given (참조가 있어 삭제 중으로 표시되지 않음)
+        when(s3DeleteTaskRepository.claim(anyInt(), any(), any()))
+                .thenReturn(List.of(task(1L, "objects/abc")));
+        when(s3Service.hashOfKey("objects/abc")).thenReturn(Optional.of("abc"));
+        when(storedObjectRepository.findDeletingHashes(Set.of("abc"))).thenReturn(List.of());
+
+        //when
+        s3DeleteQueue.drain();
+
+        //then
+        verify(s3Service, never()).deleteObjects(anyList());
+        verify(s3DeleteTaskRepository).complete(List.of(1L));
+    }
+
+    @Test
+    public void 삭제_참조없는파일은_삭제중표시후_파일과행_삭제() {
+        //given
+        when(s3DeleteTaskRepository.claim(anyInt(), any(), any()))
+                .thenReturn(List.of(task(1L, "objects/abc")));
+        when(s3Service.hashOfKey("objects/abc")).thenReturn(Optional.of("abc"));
+        when(storedObjectRepository.findDeletingHashes(Set.of("abc"))).thenReturn(List.of("abc"));
+        when(s3Service.deleteObjects(List.of("objects/abc"))).thenReturn(Map.of());
+
+        //when
+        s3DeleteQueue.drain();
+
+        //then
+        verify(storedObjectRepository).markDeleting(Set.of("abc"));
+        verify(storedObjectRepository).deleteDeleting(List.of("abc"));
+        verify(storedObjectRepository, never()).cancelDeleting(anyList());
+        verify(s3DeleteTaskRepository).complete(List.of(1L));
+    }
+
+    @Test
+    public void 삭제_S3가_거절한파일은_삭제중표시해제후_재시도() {
+        //given
+        when(s3DeleteTaskRepository.claim(anyInt(), any(), any()))
+                .thenReturn(List.of(task(1L, "objects/abc")));
+        when(s3Service.hashOfKey("objects/abc")).thenReturn(Optional.of("abc"));
+        when(storedObjectRepository.findDeletingHashes(Set.of("abc"))).thenReturn(List.of("abc"));
+        when(s3Service.deleteObjects(List.of("objects/abc"))).thenReturn(Map.of("objects/abc", "InternalError"));
+
+        //when
+        s3DeleteQueue.drain();
+
+        //then
+        verify(storedObjectRepository).cancelDeleting(List.of("abc"));
+        verify(storedObjectRepository, never()).deleteDeleting(anyList());
+        verify(s3DeleteTaskRepository).retryAt(eq(1L), any(), eq("InternalError"));
+    }
+}
@@ -0,0 +1,194 @@
+package project.coca.schedule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.unit.DataSize;
+import project.coca.group.GroupManagerRepository;
+import project.coca.group.GroupMemberRepository;
+import project.coca.member.MemberService;
+import project.coca.schedule.response.UploadedFileResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UploadSlotServiceTest {
+    @Mock
+    S3Service s3Service;
+    @Mock
+    S3DeleteQueue s3DeleteQueue;
+    @Mock
+    AttachmentStorage attachmentStorage;
+    @Mock
+    StringRedisTemplate redisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+    @Mock
+    PersonalScheduleRepository personalScheduleRepository;
+    @Mock
+    GroupScheduleRepository groupScheduleRepository;
+    @Mock
+    PersonalScheduleAttachmentRepository personalScheduleAttachmentRepository;
+    @Mock
+    GroupScheduleAttachmentRepository groupScheduleAttachmentRepository;
+    @Mock
+    GroupManagerRepository groupManagerRepository;
+    @Mock
+    GroupMemberRepository groupMemberRepository;
+    @Mock
+    PersonalScheduleService personalScheduleService;
+    @Mock
+    GroupScheduleService groupScheduleService;
+    @Mock
+    MemberService memberService;
+
+    static final String HASH = "a".repeat(64);
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    UploadSlotService uploadSlotService;
+
+    @BeforeEach
+    void setUp() {
+        uploadSlotService = new UploadSlotService(s3Service, s3DeleteQueue, attachmentStorage, redisTemplate, objectMapper,
+                personalScheduleRepository, groupScheduleRepository,
+                personalScheduleAttachmentRepository, groupScheduleAttachmentRepository,
+                groupManagerRepository, groupMemberRepository,
+                personalScheduleService, groupScheduleService, memberService,
+                Duration.ofMinutes(10), Duration.ofMinutes(5), Duration.ofHours(1), DataSize.ofMegabytes(50), 10);
+    }
+
+    private UploadSlot givenSlot(String memberId, long size) throws Exception {
+        return givenSlot(new UploadSlot("slot-1", memberId, UploadPurpose.PROFILE_IMAGE, null, null,
+                "profile-images/tester/slot-1", null, "profile.png", "image/png", size, null));
+    }
+
+    private UploadSlot givenContentSlot() throws Exception {
+        return givenSlot(new UploadSlot("slot-1", "tester", UploadPurpose.PERSONAL_SCHEDULE, 1L, null,
+                "objects/" + HASH, HASH, "file.pdf", "application/pdf", 1024, null));
+    }
+
+    private UploadSlot givenSlot(UploadSlot slot) throws Exception {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("upload:slot:slot-1"))))
+                .thenReturn(List.of(objectMapper.writeValueAsString(slot), "600000"));
+        return slot;
+    }
+
+    @Test
+    public void 업로드확인_정상() throws Exception {
+        //given
+        UploadSlot slot = givenSlot("tester", 1024);
+        when(s3Service.headObject(slot.getKey()))
+                .thenReturn(Optional.of(HeadObjectResponse.builder().contentLength(1024L).eTag("\"etag\"").build()));
+        when(s3Service.urlOf(slot.getKey())).thenReturn("https://bucket/profile-images/tester/slot-1");
+
+        //when
+        List<UploadedFileResponse> saved = uploadSlotService.confirm("tester", List.of("slot-1"));
+
+        //then
+        assertEquals(1, saved.size());
+        assertEquals("https://bucket/profile-images/tester/slot-1", saved.get(0).getFilePath());
+        verify(memberService).updateProfileImage("tester", "https://bucket/profile-images/tester/slot-1");
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    public void 업로드확인_크기다름() throws Exception {
+        //given
+        UploadSlot slot = givenSlot("tester", 1024);
+        when(s3Service.headObject(slot.getKey()))
+                .thenReturn(Optional.of(HeadObjectResponse.builder().contentLength(4096L).build()));
+        when(s3Service.urlOf(slot.getKey())).thenReturn("https://bucket/profile-images/tester/slot-1");
+
+        //when, then
+        assertThrows(IllegalArgumentException.class, () -> uploadSlotService.confirm("tester", List.of("slot-1")));
+        verify(s3DeleteQueue).enqueue("https://bucket/profile-images/tester/slot-1");
+        verify(memberService, never()).updateProfileImage(anyString(), anyString());
+    }
+
+    @Test
+    public void 업로드확인_다른회원의슬롯() throws Exception {
+        //given
+        givenSlot("owner", 1024);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        //when, then
+        assertThrows(NoSuchElementException.class, () -> uploadSlotService.confirm("tester", List.of("slot-1")));
+        verify(s3Service, never()).headObject(anyString());
+        // 주인이 확인할 수 있도록 슬롯을 다시 넣어둠
+        verify(valueOperations).set(eq("upload:slot:slot-1"), anyString(), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    public void 업로드확인_내용해시_참조를먼저잡고저장() throws Exception {
+        //given
+        UploadSlot slot = givenContentSlot();
+        when(s3Service.headObject(slot.getKey())).thenReturn(Optional.of(HeadObjectResponse.builder()
+                .contentLength(1024L).eTag("\"etag\"")
+                .metadata(Map.of(S3Service.UPLOAD_SLOT_METADATA, "slot-1")).build()));
+        when(s3Service.urlOf(slot.getKey())).thenReturn("https://bucket/objects/" + HASH);
+        when(personalScheduleService.addUploadedAttachments(eq("tester"), eq(1L), anyList())).thenReturn(List.of());
+
+        //when
+        uploadSlotService.confirm("tester", List.of("slot-1"));
+
+        //then
+        InOrder inOrder = inOrder(attachmentStorage, s3Service, personalScheduleService);
+        inOrder.verify(attachmentStorage).retainNow(HASH, 1024);
+        inOrder.verify(s3Service).headObject(slot.getKey());
+        inOrder.verify(personalScheduleService).addUploadedAttachments(eq("tester"), eq(1L), anyList());
+        verify(attachmentStorage, never()).releaseNow(List.of("https://bucket/objects/" + HASH));
+    }
+
+    @Test
+    public void 업로드확인_내용해시_다른슬롯이올린파일() throws Exception {
+        //given (해시만 알고 업로드하지 않은 경우)
+        UploadSlot slot = givenContentSlot();
+        when(s3Service.headObject(slot.getKey())).thenReturn(Optional.of(HeadObjectResponse.builder()
+                .contentLength(1024L).eTag("\"etag\"")
+                .metadata(Map.of(S3Service.UPLOAD_SLOT_METADATA, "other-slot")).build()));
+        when(s3Service.urlOf(slot.getKey())).thenReturn("https://bucket/objects/" + HASH);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        //when, then
+        assertThrows(NoSuchElementException.class, () -> uploadSlotService.confirm("tester", List.of("slot-1")));
+        verify(attachmentStorage).releaseNow(List.of("https://bucket/objects/" + HASH));
+        verify(personalScheduleService, never()).addUploadedAttachments(anyString(), any(), anyList());
+        // 이 슬롯의 url 로 업로드한 뒤 다시 확인할 수 있도록 슬롯을 다시 넣어둠
+        verify(valueOperations).set(eq("upload:slot:slot-1"), anyString(), eq(Duration.ofMinutes(10)));
+    }
+
+    @Test
+    public void 업로드확인_이미확인된슬롯() {
+        //given (같은 슬롯을 동시에 확인해 다른 요청이 먼저 가져간 경우)
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("upload:slot:slot-1")))).thenReturn(List.of());
+
+        //when, then
+        assertThrows(NoSuchElementException.class, () -> uploadSlotService.confirm("tester", List.of("slot-1")));
+        verify(s3Service, never()).headObject(anyString());
+        verify(attachmentStorage, never()).retainNow(anyString(), anyLong());
+    }
+}